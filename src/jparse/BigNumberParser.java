@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jparse.NumberParseResult.Status;
+import jparse.sun.misc.UnicodeDigits;
+
+/**
+ * Conversion of decimal numbers of arbitrary length into {@link BigInteger} and {@link BigDecimal} values, see
+ * {@link NumberParser#parseBigInteger(CharSequence, int, int, NumberParseResult)} and
+ * {@link NumberParser#parseBigDecimal(CharSequence, int, int, NumberParseResult)}.
+ *
+ * <p>
+ * The digits are read in chunks of 18 digits, each chunk is converted with {@code long} arithmetic. The chunks are then
+ * combined pairwise, starting with the least significant chunks, so that every level combines values of the same size
+ * with the same power of ten: <code>high * 10^(18 * 2^level) + low</code>. The cost is dominated by the few
+ * multiplications of the top levels, which {@link BigInteger} performs with sub-quadratic algorithms, instead of a
+ * quadratic digit by digit accumulation.
+ * </p>
+ *
+ * @author rmunge
+ */
+final class BigNumberParser {
+
+	/**
+	 * Number of decimal digits which are converted with {@code long} arithmetic.
+	 */
+	private static final int CHUNK_DIGITS = 18;
+
+	private static final BigInteger CHUNK_POWER = BigInteger.valueOf(1000000000000000000L);
+
+	private BigNumberParser() {
+	}
+
+	/**
+	 * Parses a signed decimal integer of any length with the grammar of
+	 * {@link NumberParser#parseLong(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @return the value or <code>null</code> if the range does not contain an integer
+	 */
+	static BigInteger parseBigInteger(CharSequence s, int start, int end, NumberParseResult result) {
+
+		result.reset(start);
+
+		if (s == null) {
+			result.fail(Status.EMPTY, 0);
+			return null;
+		}
+
+		int i = start;
+
+		// skip leading spaces
+		while (i < end && s.charAt(i) == ' ') {
+			i++;
+		}
+
+		if (i >= end) {
+			result.fail(Status.EMPTY, i);
+			return null;
+		}
+
+		final int signIndex = i;
+		boolean negative = false;
+		char potentialSign = s.charAt(i);
+
+		if (potentialSign < '0') {
+
+			if (potentialSign == '-') {
+				negative = true;
+
+			} else if (potentialSign != '+') {
+				result.fail(Status.INVALID_CHAR, i);
+				return null;
+			}
+			i++;
+		}
+
+		boolean digitSeen = false;
+		int firstSignificant = end;
+		int nDigits = 0;
+
+		for (; i < end; i++) {
+
+			char c = s.charAt(i);
+
+			// ignore spaces
+			if (c == ' ') {
+				continue;
+			}
+
+			int digit = digit(c);
+
+			if (digit < 0) {
+				result.fail(Status.INVALID_CHAR, i);
+				return null;
+			}
+			digitSeen = true;
+
+			if (nDigits > 0 || digit != 0) {
+				if (nDigits++ == 0) {
+					firstSignificant = i;
+				}
+			}
+		}
+
+		if (!digitSeen) {
+			// just a '+' or '-' is not a valid number
+			result.fail(Status.INVALID_CHAR, signIndex);
+			return null;
+		}
+
+		BigInteger value = toBigInteger(s, firstSignificant, nDigits);
+		result.ok(end);
+		return negative ? value.negate() : value;
+	}
+
+	/**
+	 * Parses a decimal number of any length with the grammar of
+	 * {@link NumberParser#parseDouble(CharSequence, int, int, NumberParseResult)}, except "NaN", "Infinity", hexadecimal
+	 * numbers and a type suffix like in "1.5f". Like {@link BigDecimal#BigDecimal(String)} the scale is the number of
+	 * fraction digits minus the exponent.
+	 *
+	 * @return the value or <code>null</code> if the range does not contain a decimal number or the scale is out of the
+	 *         range of an int
+	 */
+	static BigDecimal parseBigDecimal(CharSequence s, int start, int end, NumberParseResult result) {
+
+		result.reset(start);
+
+		if (s == null) {
+			result.fail(Status.EMPTY, 0);
+			return null;
+		}
+
+		if (start == end || NumberParser.isBlank(s, start, end)) {
+			result.fail(Status.EMPTY, end);
+			return null;
+		}
+
+		int i = start;
+		int len = end;
+
+		while (s.charAt(i) <= ' ') {
+			i++;
+		}
+
+		while (s.charAt(len - 1) <= ' ') {
+			len--;
+		}
+
+		final boolean negative = (s.charAt(i) == '-');
+
+		if (negative || s.charAt(i) == '+') {
+			i++;
+		}
+
+		// neither special values nor binary exponents have an exact decimal representation
+		if (i < len && (s.charAt(i) == 'N' || s.charAt(i) == 'I'
+				|| (s.charAt(i) == '0' && i + 1 < len && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')))) {
+			result.fail(Status.INVALID_CHAR, i);
+			return null;
+		}
+
+		// the grammar is checked while the digits are counted, the error index is the one of the double scanner
+		int firstSignificant = len;
+		int nDigits = 0;
+		int nFractionDigits = 0;
+		boolean digitSeen = false;
+		boolean decSeen = false;
+
+		for (; i < len; i++) {
+
+			char c = s.charAt(i);
+			int digit = digit(c);
+
+			if (digit >= 0) {
+				digitSeen = true;
+
+				if (nDigits > 0 || digit != 0) {
+					if (nDigits++ == 0) {
+						firstSignificant = i;
+					}
+				}
+
+				if (decSeen) {
+					nFractionDigits++;
+				}
+
+			} else if (NumberFormatProfile.DEFAULT.isDecimalMark(c) && !decSeen) {
+				decSeen = true;
+
+			} else {
+				break;
+			}
+		}
+
+		if (!digitSeen) {
+			result.fail(Status.INVALID_CHAR, i);
+			return null;
+		}
+
+		long scale = nFractionDigits;
+		int exponentStart = -1;
+
+		if (i < len && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+			i++;
+			final boolean negativeExponent = (i < len && s.charAt(i) == '-');
+
+			if (negativeExponent || (i < len && s.charAt(i) == '+')) {
+				i++;
+			}
+
+			exponentStart = i;
+			long exponent = 0;
+
+			int digit;
+
+			for (; i < len && (digit = digit(s.charAt(i))) >= 0; i++) {
+
+				// all digits belong to the exponent, but beyond the range of the scale the value is irrelevant
+				if (exponent <= 2L * Integer.MAX_VALUE) {
+					exponent = exponent * 10 + digit;
+				}
+			}
+
+			if (i == exponentStart) {
+				result.fail(Status.INVALID_CHAR, i);
+				return null;
+			}
+			scale = negativeExponent ? scale + exponent : scale - exponent;
+		}
+
+		if (i < len) {
+			// a second decimal mark, a type suffix or any other character after the number
+			result.fail(Status.INVALID_CHAR, i);
+			return null;
+		}
+
+		if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+			result.fail(Status.OVERFLOW, exponentStart);
+			return null;
+		}
+
+		BigInteger unscaledValue = toBigInteger(s, firstSignificant, nDigits);
+		result.ok(end);
+		return new BigDecimal(negative ? unscaledValue.negate() : unscaledValue, (int) scale);
+	}
+
+	/**
+	 * Converts <code>nDigits</code> digits, starting at index <code>from</code> and ignoring any other characters in
+	 * between, to a positive value.
+	 */
+	private static BigInteger toBigInteger(CharSequence s, int from, int nDigits) {
+
+		if (nDigits <= CHUNK_DIGITS) {
+			return BigInteger.valueOf(toLong(s, from, nDigits));
+		}
+
+		final int nChunks = (nDigits + CHUNK_DIGITS - 1) / CHUNK_DIGITS;
+		final BigInteger[] values = new BigInteger[nChunks];
+
+		// the most significant chunk takes the remainder, all others are complete
+		int chunkDigits = nDigits - (nChunks - 1) * CHUNK_DIGITS;
+		long chunk = 0L;
+		int count = 0;
+
+		for (int i = from; count < nChunks; i++) {
+
+			int digit = digit(s.charAt(i));
+
+			if (digit >= 0) {
+				chunk = chunk * 10 + digit;
+
+				if (--chunkDigits == 0) {
+					values[count++] = BigInteger.valueOf(chunk);
+					chunk = 0L;
+					chunkDigits = CHUNK_DIGITS;
+				}
+			}
+		}
+
+		// combine pairs of equally sized values, an odd most significant value is carried to the next level
+		BigInteger power = CHUNK_POWER;
+
+		while (count > 1) {
+
+			final int offset = count & 1;
+			final int pairs = count >>> 1;
+
+			for (int k = 0; k < pairs; k++) {
+				values[offset + k] = values[offset + 2 * k].multiply(power).add(values[offset + 2 * k + 1]);
+			}
+			count = offset + pairs;
+
+			if (count > 1) {
+				power = power.multiply(power);
+			}
+		}
+		return values[0];
+	}
+
+	/**
+	 * Converts up to 18 digits, starting at index <code>from</code> and ignoring any other characters in between.
+	 */
+	private static long toLong(CharSequence s, int from, int nDigits) {
+
+		long value = 0L;
+
+		for (int i = from; nDigits > 0; i++) {
+
+			int digit = digit(s.charAt(i));
+
+			if (digit >= 0) {
+				value = value * 10 + digit;
+				nDigits--;
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * @return the value of a Unicode decimal digit, see {@link UnicodeDigits#digit(char)}
+	 */
+	private static int digit(char c) {
+		return (c >= '0' && c <= '9') ? c - '0' : UnicodeDigits.digit(c);
+	}
+}
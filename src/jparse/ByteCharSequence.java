@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link CharSequence} view of the bytes of a {@code byte} array or {@link ByteBuffer}, which allows to parse ASCII and
+ * UTF-8 encoded numbers with the same grammars as strings, without decoding the bytes.
+ *
+ * <p>
+ * Each byte is mapped to the ISO-LATIN-1 character with the same value. All characters allowed in numbers are ASCII
+ * characters and all bytes of a multi-byte UTF-8 sequence are &gt;= 0x80, thus non-ASCII input is never accepted as
+ * (part of) a valid number.
+ * </p>
+ *
+ * <p>
+ * Indices are absolute indices of the array or buffer. The position of a buffer is ignored, its limit is the length of the
+ * view, both are never modified. A view can be reused for another source, each thread reuses a single view for the parse
+ * methods, see {@link #ofThread(byte[])}. A view is <b>not</b> safe for multi-threaded use.
+ * </p>
+ *
+ * @author rmunge
+ */
+final class ByteCharSequence implements CharSequence {
+
+	/**
+	 * Maximum number of digits which always fit into a {@code long}.
+	 */
+	static final int MAX_FAST_DIGITS = 18;
+
+	private static final ThreadLocal<ByteCharSequence> THREAD_VIEW = new ThreadLocal<ByteCharSequence>() {
+
+		@Override
+		protected ByteCharSequence initialValue() {
+			return new ByteCharSequence();
+		}
+	};
+
+	private byte[] array;
+	private int arrayOffset;
+	private ByteBuffer buffer;
+	private boolean bigEndian;
+	private int length;
+
+	ByteCharSequence() {
+	}
+
+	ByteCharSequence(byte[] src) {
+		wrap(src);
+	}
+
+	ByteCharSequence(ByteBuffer src) {
+		wrap(src);
+	}
+
+	/**
+	 * Returns the view of the current thread as a view of the given array, which must be released by {@link #release()}.
+	 */
+	static ByteCharSequence ofThread(byte[] src) {
+		return THREAD_VIEW.get().wrap(src);
+	}
+
+	/**
+	 * Returns the view of the current thread as a view of the given buffer, which must be released by {@link #release()}.
+	 */
+	static ByteCharSequence ofThread(ByteBuffer src) {
+		return THREAD_VIEW.get().wrap(src);
+	}
+
+	/**
+	 * Makes this a view of the given array.
+	 */
+	ByteCharSequence wrap(byte[] src) {
+		array = src;
+		arrayOffset = 0;
+		buffer = null;
+		length = src.length;
+		return this;
+	}
+
+	/**
+	 * Makes this a view of the given buffer, a heap buffer is accessed through its backing array.
+	 */
+	ByteCharSequence wrap(ByteBuffer src) {
+
+		if (src.hasArray()) {
+			array = src.array();
+			arrayOffset = src.arrayOffset();
+			buffer = null;
+
+		} else {
+			array = null;
+			arrayOffset = 0;
+			buffer = src;
+			bigEndian = (src.order() == ByteOrder.BIG_ENDIAN);
+		}
+		length = src.limit();
+		return this;
+	}
+
+	/**
+	 * Drops the references to the array or buffer, thus the view of a thread does not keep a large source alive.
+	 */
+	void release() {
+		array = null;
+		buffer = null;
+		length = 0;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+		}
+		return (char) ((array != null ? array[arrayOffset + index] : buffer.get(index)) & 0xFF);
+	}
+
+	/**
+	 * Returns the value of the ASCII digits <code>start</code> (inclusive) to <code>end</code> (exclusive) or
+	 * <code>-1</code> if the range is empty, contains more than 18 digits (which might overflow a {@code long}) or contains
+	 * any other byte than an ASCII digit.
+	 * <p>
+	 * SIMD within a register: as long as possible eight bytes at a time are loaded into a single {@code long} (first byte in
+	 * the lowest bits), validated with a few bit operations and converted with three multiplications instead of eight.
+	 * </p>
+	 */
+	long digits(int start, int end) {
+
+		final int count = end - start;
+
+		if (count <= 0 || count > MAX_FAST_DIGITS) {
+			return -1L;
+		}
+
+		long value = 0L;
+		int i = start;
+
+		while (end - i >= 8) {
+			int eightDigits = eightDigits(i);
+
+			if (eightDigits < 0) {
+				return -1L;
+			}
+			value = value * 100_000_000L + eightDigits;
+			i += 8;
+		}
+
+		while (i < end) {
+			int digit = (array != null ? array[arrayOffset + i] : buffer.get(i)) - '0';
+
+			if (digit < 0 || digit > 9) {
+				return -1L;
+			}
+			value = value * 10 + digit;
+			i++;
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the value of eight ASCII digits starting at <code>index</code> or <code>-1</code> if at least one of the
+	 * eight bytes is not an ASCII digit.
+	 */
+	private int eightDigits(int index) {
+
+		long word;
+
+		if (array != null) {
+			final byte[] a = array;
+			final int i = arrayOffset + index;
+			word = (a[i] & 0xFFL) | (a[i + 1] & 0xFFL) << 8 | (a[i + 2] & 0xFFL) << 16 | (a[i + 3] & 0xFFL) << 24
+					| (a[i + 4] & 0xFFL) << 32 | (a[i + 5] & 0xFFL) << 40 | (a[i + 6] & 0xFFL) << 48 | (a[i + 7] & 0xFFL) << 56;
+		} else {
+			word = buffer.getLong(index);
+			if (bigEndian) {
+				word = Long.reverseBytes(word);
+			}
+		}
+
+		// each byte must be 0x30 to 0x39: the high nibble is 3 and adding 6 does not carry into the high nibble
+		if (((word & 0xF0F0F0F0F0F0F0F0L) | (((word + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4)) != 0x3333333333333333L) {
+			return -1;
+		}
+
+		word -= 0x3030303030303030L;
+		word = (word * 10) + (word >>> 8); // pairs of digits
+		word = (((word & 0x000000FF000000FFL) * (100 + (1000000L << 32)))
+				+ (((word >>> 16) & 0x000000FF000000FFL) * (1 + (10000L << 32)))) >>> 32;
+		return (int) word;
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+
+		if (start < 0 || start > end || end > length) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+		}
+
+		if (array != null) {
+			return new String(array, arrayOffset + start, end - start, StandardCharsets.ISO_8859_1);
+		}
+
+		byte[] bytes = new byte[end - start];
+		for (int i = start; i < end; i++) {
+			bytes[i - start] = buffer.get(i);
+		}
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	@Override
+	public String toString() {
+		return subSequence(0, length).toString();
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse;
+
+/**
+ * A reusable {@link CharSequence} view of a {@code char} array, which allows to parse the characters of an array with the
+ * same grammars as strings, without copying them or allocating a wrapper per call.
+ *
+ * <p>
+ * Each thread reuses a single view, see {@link #ofThread(char[])}. The parse methods never call foreign code while the view
+ * is in use, thus a nested use within the same thread is impossible. The view is <b>not</b> safe for multi-threaded use.
+ * </p>
+ *
+ * @author rmunge
+ */
+final class CharArraySequence implements CharSequence {
+
+	private static final ThreadLocal<CharArraySequence> THREAD_VIEW = new ThreadLocal<CharArraySequence>() {
+
+		@Override
+		protected CharArraySequence initialValue() {
+			return new CharArraySequence();
+		}
+	};
+
+	private char[] array;
+
+	/**
+	 * Returns the view of the current thread as a view of the given array, which must be released by {@link #release()}.
+	 */
+	static CharArraySequence ofThread(char[] src) {
+		return THREAD_VIEW.get().wrap(src);
+	}
+
+	/**
+	 * Makes this a view of the given array.
+	 */
+	CharArraySequence wrap(char[] src) {
+		array = src;
+		return this;
+	}
+
+	/**
+	 * Drops the reference to the array, thus the view of a thread does not keep a large array alive.
+	 */
+	void release() {
+		array = null;
+	}
+
+	@Override
+	public int length() {
+		return array.length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		return array[index];
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return new String(array, start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		return new String(array);
+	}
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse;
+
+/**
+ * Reusable scanner for lines of delimited numeric fields, e.g. of a CSV file.
+ *
+ * <p>
+ * Each field of a line is parsed in a single pass straight into a primitive slot of its column, without splitting the
+ * line into sub-strings: the parser of a column stops at the first character which can't extend its number, which is
+ * the delimiter of a valid field. The columns are declared once by a list of {@link ColumnType}s, fields of
+ * {@link ColumnType#SKIP} columns and fields after the last declared column are not parsed. Integer fields are parsed
+ * like {@link NumberParser#parseInt(CharSequence, int, int, NumberParseResult)}, floating point fields like
+ * {@link NumberParser#parseDouble(CharSequence, int, int, NumberParseResult)}.
+ * </p>
+ *
+ * <pre>
+ * LineScanner scanner = new LineScanner(',', ColumnType.LONG, ColumnType.SKIP, ColumnType.DOUBLE);
+ *
+ * if (scanner.scan("4711,ignored,3.5")) {
+ * 	long id = scanner.getLong(0);
+ * 	double amount = scanner.getDouble(2);
+ * }
+ * </pre>
+ *
+ * <p>
+ * The values of the last scanned line are replaced by the next call of a <code>scan</code> method. A
+ * {@code LineScanner} does not allocate anything while scanning, it is <b>not</b> safe for multi-threaded use.
+ * </p>
+ *
+ * @author rmunge
+ */
+public final class LineScanner {
+
+	/**
+	 * Type of a column.
+	 */
+	public enum ColumnType {
+
+		/**
+		 * The field is a signed decimal integer, see {@link LineScanner#getInt(int)}.
+		 */
+		INT,
+
+		/**
+		 * The field is a signed decimal long, see {@link LineScanner#getLong(int)}.
+		 */
+		LONG,
+
+		/**
+		 * The field is a floating point number, see {@link LineScanner#getDouble(int)}.
+		 */
+		DOUBLE,
+
+		/**
+		 * The field is ignored.
+		 */
+		SKIP
+	}
+
+	private final char delimiter;
+	private final NumberFormatProfile profile;
+	private final NumberFormatProfile doubleProfile;
+	private final boolean prefixParsing;
+	private final ColumnType[] columns;
+	private final long[] longValues;
+	private final double[] doubleValues;
+	private final long[] validity;
+	private final NumberParseResult result = new NumberParseResult();
+	private final ByteCharSequence bytes = new ByteCharSequence();
+	private int fieldCount;
+
+	/**
+	 * Creates a scanner for lines with the given columns.
+	 *
+	 * @param delimiter the ASCII character which separates two fields
+	 * @param columns the type of each column, starting with the first field of a line
+	 * @throws IllegalArgumentException if <code>delimiter</code> is not an ASCII character or a column type is
+	 *         <code>null</code>
+	 */
+	public LineScanner(char delimiter, ColumnType... columns) {
+		this(delimiter, null, columns);
+	}
+
+	/**
+	 * Creates a scanner for lines with the given columns, whose fields are formatted as defined by a given profile,
+	 * e.g. "1.234,5;42" with ';' as delimiter and {@link NumberFormatProfile#GERMAN}.
+	 *
+	 * @param delimiter the ASCII character which separates two fields
+	 * @param profile the format of all numeric fields or <code>null</code> for the default grammar of the
+	 *        {@link NumberParser} methods without a profile
+	 * @param columns the type of each column, starting with the first field of a line
+	 * @throws IllegalArgumentException if <code>delimiter</code> is not an ASCII character or a decimal mark or
+	 *         grouping separator of the profile, or a column type is <code>null</code>
+	 */
+	public LineScanner(char delimiter, NumberFormatProfile profile, ColumnType... columns) {
+
+		if (delimiter > 0x7F) {
+			throw new IllegalArgumentException("delimiter must be an ASCII character: " + delimiter);
+		}
+
+		if (profile != null && (profile.isDecimalMark(delimiter) || profile.isGroupingSeparator(delimiter))) {
+			throw new IllegalArgumentException(
+					"delimiter must not be a decimal mark or grouping separator: " + delimiter);
+		}
+
+		for (ColumnType column : columns) {
+			if (column == null) {
+				throw new IllegalArgumentException("column type must not be null");
+			}
+		}
+
+		this.delimiter = delimiter;
+		this.profile = profile;
+		this.doubleProfile = (profile != null) ? profile : withoutDecimalMark(NumberFormatProfile.DEFAULT, delimiter);
+		// a delimiter which may be part of a number requires to search the delimiter first
+		this.prefixParsing = !Character.isLetterOrDigit(delimiter) && delimiter != '+' && delimiter != '-';
+		this.columns = columns.clone();
+		this.longValues = new long[columns.length];
+		this.doubleValues = new double[columns.length];
+		this.validity = new long[(columns.length + 63) >>> 6];
+	}
+
+	/**
+	 * Scans all fields of a given line.
+	 *
+	 * @param line the line to be scanned, without line terminator
+	 * @return <code>true</code> if the line contains a valid field for every column which is not skipped
+	 */
+	public boolean scan(CharSequence line) {
+		return scan(line, 0, line.length());
+	}
+
+	/**
+	 * Scans all fields of a given line within its characters <code>start</code> (inclusive) to <code>end</code>
+	 * (exclusive).
+	 *
+	 * @param line the line to be scanned
+	 * @param start index of the first character of the line
+	 * @param end index after the last character of the line, i.e. the index of the line terminator if any
+	 * @return <code>true</code> if the range contains a valid field for every column which is not skipped
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>line</code>
+	 */
+	public boolean scan(CharSequence line, int start, int end) {
+
+		NumberParser.checkRange(line.length(), start, end);
+		clear();
+		scanFields(line, start, end, false);
+		return isComplete();
+	}
+
+	/**
+	 * Scans all fields within the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given ASCII
+	 * or UTF-8 encoded line, without decoding the bytes into a {@code String}.
+	 *
+	 * @param line the ASCII or UTF-8 encoded bytes to be scanned
+	 * @param start index of the first byte of the line
+	 * @param end index after the last byte of the line, i.e. the index of the line terminator if any
+	 * @return <code>true</code> if the range contains a valid field for every column which is not skipped
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>line</code>
+	 */
+	public boolean scan(byte[] line, int start, int end) {
+
+		NumberParser.checkRange(line.length, start, end);
+		clear();
+
+		try {
+			scanFields(bytes.wrap(line), start, end, true);
+		} finally {
+			bytes.release();
+		}
+		return isComplete();
+	}
+
+	/**
+	 * @return the number of declared columns
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * @return the number of fields of the last scanned line, including fields which have not been parsed
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * @param column the index of a column
+	 * @return <code>true</code> if the last scanned line contains a valid field for the given column, always
+	 *         <code>false</code> for a {@link ColumnType#SKIP} column
+	 */
+	public boolean isValid(int column) {
+		checkColumn(column);
+		return (validity[column >>> 6] & (1L << column)) != 0;
+	}
+
+	/**
+	 * @param column the index of an {@link ColumnType#INT} column
+	 * @return the value of the field of the last scanned line or <code>0</code> if the field is missing or invalid, see
+	 *         {@link #isValid(int)}
+	 */
+	public int getInt(int column) {
+		return (int) getLong(column);
+	}
+
+	/**
+	 * @param column the index of an {@link ColumnType#INT} or {@link ColumnType#LONG} column
+	 * @return the value of the field of the last scanned line or <code>0</code> if the field is missing or invalid, see
+	 *         {@link #isValid(int)}
+	 */
+	public long getLong(int column) {
+		checkColumn(column);
+		return longValues[column];
+	}
+
+	/**
+	 * @param column the index of a column which is not skipped
+	 * @return the value of the field of the last scanned line, converted to a {@code double} for {@link ColumnType#INT}
+	 *         and {@link ColumnType#LONG} columns, or <code>0</code> if the field is missing or invalid, see
+	 *         {@link #isValid(int)}
+	 */
+	public double getDouble(int column) {
+		checkColumn(column);
+		return doubleValues[column];
+	}
+
+	private void scanFields(CharSequence line, int start, int end, boolean isByteLine) {
+
+		int fieldEnd = parseField(line, start, end, isByteLine);
+
+		while (fieldEnd < end) {
+			fieldEnd = parseField(line, fieldEnd + 1, end, isByteLine);
+		}
+	}
+
+	/**
+	 * Parses the field at <code>start</code>. The prefix parser of the column stops at the end of its number, a valid
+	 * field ends there with the delimiter or the end of the line. Any other field, e.g. one with whitespace around the
+	 * number, is parsed again as a whole up to the next delimiter.
+	 *
+	 * @return the index of the delimiter after the field or <code>end</code>
+	 */
+	private int parseField(CharSequence line, int start, int end, boolean isByteLine) {
+
+		final int column = fieldCount++;
+
+		if (column >= columns.length || columns[column] == ColumnType.SKIP) {
+			return indexOfDelimiter(line, start, end);
+		}
+
+		final ColumnType type = columns[column];
+		boolean isValid = false;
+		int fieldEnd = -1;
+
+		if (prefixParsing && parsePrefix(line, start, end, type)) {
+			final int numberEnd = result.getIndex();
+
+			if (numberEnd == end || line.charAt(numberEnd) == delimiter) {
+				isValid = true;
+				fieldEnd = numberEnd;
+			}
+		}
+
+		if (fieldEnd < 0) {
+			fieldEnd = indexOfDelimiter(line, start, end);
+			isValid = parse(line, start, fieldEnd, type, isByteLine);
+		}
+
+		if (isValid) {
+			validity[column >>> 6] |= 1L << column;
+
+			if (type == ColumnType.DOUBLE) {
+				doubleValues[column] = result.getDoubleValue();
+			} else {
+				longValues[column] = result.getLongValue();
+				doubleValues[column] = result.getLongValue();
+			}
+		}
+		return fieldEnd;
+	}
+
+	private boolean parsePrefix(CharSequence line, int start, int end, ColumnType type) {
+
+		switch (type) {
+			case INT:
+				return NumberParser.parseSignedPrefix(line, start, end, Integer.MAX_VALUE, profile, result);
+
+			case LONG:
+				return NumberParser.parseSignedPrefix(line, start, end, Long.MAX_VALUE, profile, result);
+
+			default:
+				return NumberParser.parseFloatingPointPrefix(line, start, end, false, doubleProfile, result);
+		}
+	}
+
+	private boolean parse(CharSequence line, int start, int end, ColumnType type, boolean isByteLine) {
+
+		switch (type) {
+			case INT:
+				return parseInteger(line, start, end, Integer.MAX_VALUE, isByteLine);
+
+			case LONG:
+				return parseInteger(line, start, end, Long.MAX_VALUE, isByteLine);
+
+			default:
+				return (profile != null) ? NumberParser.parseFloatingPoint(line, start, end, false, profile, result)
+						: NumberParser.parseFloatingPoint(line, start, end, false, result);
+		}
+	}
+
+	private int indexOfDelimiter(CharSequence line, int start, int end) {
+
+		for (int i = start; i < end; i++) {
+			if (line.charAt(i) == delimiter) {
+				return i;
+			}
+		}
+		return end;
+	}
+
+	private boolean parseInteger(CharSequence line, int start, int end, long maxValue, boolean isByteLine) {
+
+		if (profile != null) {
+			return NumberParser.parseSigned(line, start, end, maxValue, profile, result);
+		}
+		return isByteLine ? NumberParser.parseSigned((ByteCharSequence) line, start, end, maxValue, result)
+				: NumberParser.parseSigned(line, start, end, 10, maxValue, result);
+	}
+
+	/**
+	 * @return <code>true</code> if all columns except skipped ones are valid
+	 */
+	private boolean isComplete() {
+
+		for (int column = 0; column < columns.length; column++) {
+			if (columns[column] != ColumnType.SKIP && (validity[column >>> 6] & (1L << column)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void clear() {
+
+		for (int column = 0; column < columns.length; column++) {
+			longValues[column] = 0L;
+			doubleValues[column] = 0d;
+		}
+
+		for (int i = 0; i < validity.length; i++) {
+			validity[i] = 0L;
+		}
+		fieldCount = 0;
+	}
+
+	private void checkColumn(int column) {
+
+		if (column < 0 || column >= columns.length) {
+			throw new IndexOutOfBoundsException("column " + column + ", columns " + columns.length);
+		}
+	}
+
+	/**
+	 * @return the given profile without the delimiter as decimal mark, a field never contains its delimiter
+	 */
+	private static NumberFormatProfile withoutDecimalMark(NumberFormatProfile profile, char delimiter) {
+
+		if (!profile.isDecimalMark(delimiter)) {
+			return profile;
+		}
+		return new NumberFormatProfile(profile.getDecimalMarks().replace(String.valueOf(delimiter), ""),
+				profile.getGroupingSeparators(), profile.getSignPolicy(), profile.getWhitespacePolicy());
+	}
+
+}
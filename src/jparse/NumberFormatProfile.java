@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse;
+
+import jparse.sun.misc.NumberSyntax;
+
+/**
+ * Immutable description of locale specific number formats, e.g. "1.234,5" or "1'234.5", which can be passed to the
+ * {@link NumberParser} methods which accept a {@code NumberFormatProfile}.
+ *
+ * <p>
+ * A profile defines the characters which are accepted as decimal mark and as grouping (thousands) separator, which signs
+ * are allowed and whether leading and trailing whitespace is ignored. A grouping separator is only accepted between two
+ * digits of the integer part of a number, the size of the groups is not checked, e.g. "12,34,567" is valid for
+ * {@link #ENGLISH}.
+ * </p>
+ *
+ * <p>
+ * The characters of a profile are compiled into a lookup table once, when the profile is created. Thus parsing with a
+ * profile is as fast as parsing with the fixed grammar of the methods without a profile and a profile can be shared by
+ * any number of threads.
+ * </p>
+ *
+ * <p>
+ * The predefined profiles {@link #JSON} and {@link #JAVA} additionally select a strict {@link Grammar}, which is checked
+ * by a dedicated scanner in the same single pass which converts the number.
+ * </p>
+ *
+ * <p>
+ * A profile is accepted by the {@link NumberParser} methods with a {@code NumberFormatProfile} parameter, i.e. the
+ * {@code parseInt}, {@code parseLong}, {@code parseDouble} and {@code parseFloat} methods for a {@code CharSequence} or a
+ * {@code byte} array, the floating point prefix methods, {@code parseHalf}, {@code parseBFloat16} and
+ * {@code parseScaledLong}, and by {@link LineScanner}. The {@code parsePositive} methods, the methods for {@code char}
+ * arrays and {@link java.nio.ByteBuffer}s and the bulk and parallel methods have a fixed grammar.
+ * </p>
+ *
+ * <p>
+ * Bytes are mapped to ISO-LATIN-1 characters when a {@code byte} array is parsed, thus only ASCII characters of a profile
+ * can be matched in UTF-8 encoded input.
+ * </p>
+ *
+ * @author rmunge
+ */
+public final class NumberFormatProfile {
+
+	/**
+	 * Signs which are allowed in front of a number.
+	 */
+	public enum SignPolicy {
+
+		/**
+		 * Neither '+' nor '-' is allowed.
+		 */
+		UNSIGNED,
+
+		/**
+		 * Only '-' is allowed.
+		 */
+		MINUS_ONLY,
+
+		/**
+		 * '+' and '-' are allowed.
+		 */
+		PLUS_OR_MINUS
+	}
+
+	/**
+	 * Handling of whitespace around a number.
+	 */
+	public enum WhitespacePolicy {
+
+		/**
+		 * Any whitespace is invalid.
+		 */
+		NONE,
+
+		/**
+		 * Leading and trailing characters which are removed by {@link String#trim()} are ignored.
+		 */
+		TRIM
+	}
+
+	/**
+	 * The grammar of a number, beyond the characters of a profile.
+	 */
+	public enum Grammar {
+
+		/**
+		 * The grammar of the {@link NumberParser} methods: decimal digits of any script, decimal marks anywhere in the
+		 * digits, leading zeros, "NaN", "Infinity", hexadecimal floating point numbers and a trailing 'f', 'F', 'd' or 'D'.
+		 */
+		LENIENT,
+
+		/**
+		 * The grammar of {@link Double#valueOf(String)}: like {@link #LENIENT}, but only ASCII digits.
+		 */
+		JAVA,
+
+		/**
+		 * The number grammar of JSON (RFC 8259): an optional '-', an integer part without leading zeros, an optional
+		 * fraction part with at least one digit and an optional exponent, only ASCII digits, e.g. "-0.5e+3". "NaN",
+		 * "Infinity", hexadecimal numbers, a '+' sign, a type suffix and whitespace are invalid.
+		 */
+		JSON
+	}
+
+	/**
+	 * The grammar of the {@link NumberParser} methods for floating point numbers without a profile: '.', ',' and the arabic
+	 * decimal separator (U+066B) are decimal marks, no grouping separators, an optional sign and leading and trailing
+	 * whitespace is ignored.
+	 * <p>
+	 * The integer methods without a profile are not equivalent to this profile: they ignore spaces anywhere after the
+	 * sign, e.g. "1 000", and no other whitespace, which can't be expressed by a profile.
+	 * </p>
+	 */
+	public static final NumberFormatProfile DEFAULT = new NumberFormatProfile(NumberSyntax.DEFAULT,
+			SignPolicy.PLUS_OR_MINUS, WhitespacePolicy.TRIM, Grammar.LENIENT);
+
+	/**
+	 * The {@link Grammar#JAVA} grammar: '.' as decimal mark, no grouping separators, an optional sign and leading and
+	 * trailing whitespace is ignored, e.g. " +1.5e3d ".
+	 */
+	public static final NumberFormatProfile JAVA = new NumberFormatProfile(".", "", SignPolicy.PLUS_OR_MINUS,
+			WhitespacePolicy.TRIM, Grammar.JAVA);
+
+	/**
+	 * The {@link Grammar#JSON} grammar: '.' as decimal mark, no grouping separators, only '-' as sign and no whitespace,
+	 * e.g. "-1.5e3".
+	 */
+	public static final NumberFormatProfile JSON = new NumberFormatProfile(".", "", SignPolicy.MINUS_ONLY,
+			WhitespacePolicy.NONE, Grammar.JSON);
+
+	/**
+	 * '.' as decimal mark and ',' as grouping separator, e.g. "1,234.5".
+	 */
+	public static final NumberFormatProfile ENGLISH = new NumberFormatProfile(".", ",", SignPolicy.PLUS_OR_MINUS,
+			WhitespacePolicy.TRIM);
+
+	/**
+	 * ',' as decimal mark and '.' as grouping separator, e.g. "1.234,5".
+	 */
+	public static final NumberFormatProfile GERMAN = new NumberFormatProfile(",", ".", SignPolicy.PLUS_OR_MINUS,
+			WhitespacePolicy.TRIM);
+
+	/**
+	 * ',' as decimal mark and space, no-break space (U+00A0) or narrow no-break space (U+202F) as grouping separator, e.g.
+	 * "1 234,5".
+	 */
+	public static final NumberFormatProfile FRENCH = new NumberFormatProfile(",", " \u00A0\u202F",
+			SignPolicy.PLUS_OR_MINUS, WhitespacePolicy.TRIM);
+
+	/**
+	 * '.' as decimal mark and apostrophe or right single quotation mark (U+2019) as grouping separator, e.g. "1'234.5".
+	 */
+	public static final NumberFormatProfile SWISS = new NumberFormatProfile(".", "'\u2019", SignPolicy.PLUS_OR_MINUS,
+			WhitespacePolicy.TRIM);
+
+	private final SignPolicy signPolicy;
+	private final WhitespacePolicy whitespacePolicy;
+	private final Grammar grammar;
+
+	/**
+	 * The compiled characters and rules, which are passed to the scanners.
+	 */
+	private final NumberSyntax syntax;
+
+	/**
+	 * Creates a new profile with the {@link Grammar#LENIENT} grammar.
+	 *
+	 * @param decimalMarks the characters which are accepted as decimal mark, may be empty for integer only formats
+	 * @param groupingSeparators the characters which are accepted as grouping separator, may be empty
+	 * @param signPolicy the allowed signs
+	 * @param whitespacePolicy the handling of whitespace around a number
+	 * @throws IllegalArgumentException if an argument is <code>null</code>, a character is a decimal mark and a grouping
+	 *         separator or a decimal mark or grouping separator is a digit, a sign, 'e' or 'E'
+	 */
+	public NumberFormatProfile(String decimalMarks, String groupingSeparators, SignPolicy signPolicy,
+			WhitespacePolicy whitespacePolicy) {
+		this(decimalMarks, groupingSeparators, signPolicy, whitespacePolicy, Grammar.LENIENT);
+	}
+
+	private NumberFormatProfile(String decimalMarks, String groupingSeparators, SignPolicy signPolicy,
+			WhitespacePolicy whitespacePolicy, Grammar grammar) {
+		this(compile(decimalMarks, groupingSeparators, signPolicy, whitespacePolicy, grammar), signPolicy,
+				whitespacePolicy, grammar);
+	}
+
+	private NumberFormatProfile(NumberSyntax syntax, SignPolicy signPolicy, WhitespacePolicy whitespacePolicy,
+			Grammar grammar) {
+		this.syntax = syntax;
+		this.signPolicy = signPolicy;
+		this.whitespacePolicy = whitespacePolicy;
+		this.grammar = grammar;
+	}
+
+	private static NumberSyntax compile(String decimalMarks, String groupingSeparators, SignPolicy signPolicy,
+			WhitespacePolicy whitespacePolicy, Grammar grammar) {
+
+		if (decimalMarks == null || groupingSeparators == null || signPolicy == null || whitespacePolicy == null) {
+			throw new IllegalArgumentException("arguments must not be null");
+		}
+
+		final int syntaxGrammar = (grammar == Grammar.JSON) ? NumberSyntax.JSON
+				: (grammar == Grammar.JAVA) ? NumberSyntax.JAVA : NumberSyntax.LENIENT;
+		return new NumberSyntax(decimalMarks, groupingSeparators, signPolicy == SignPolicy.PLUS_OR_MINUS,
+				signPolicy != SignPolicy.UNSIGNED, whitespacePolicy == WhitespacePolicy.TRIM, syntaxGrammar);
+	}
+
+	/**
+	 * @return the characters which are accepted as decimal mark
+	 */
+	public String getDecimalMarks() {
+		return syntax.getDecimalMarks();
+	}
+
+	/**
+	 * @return the characters which are accepted as grouping separator
+	 */
+	public String getGroupingSeparators() {
+		return syntax.getGroupingSeparators();
+	}
+
+	/**
+	 * @return the allowed signs
+	 */
+	public SignPolicy getSignPolicy() {
+		return signPolicy;
+	}
+
+	/**
+	 * @return the handling of whitespace around a number
+	 */
+	public WhitespacePolicy getWhitespacePolicy() {
+		return whitespacePolicy;
+	}
+
+	/**
+	 * @return the grammar of numbers, {@link Grammar#LENIENT} unless this is {@link #JAVA} or {@link #JSON}
+	 */
+	public Grammar getGrammar() {
+		return grammar;
+	}
+
+	/**
+	 * @param c a character
+	 * @return <code>true</code> if the given character is a decimal mark of this profile
+	 */
+	public boolean isDecimalMark(char c) {
+		return syntax.isDecimalMark(c);
+	}
+
+	/**
+	 * @param c a character
+	 * @return <code>true</code> if the given character is a grouping separator of this profile
+	 */
+	public boolean isGroupingSeparator(char c) {
+		return syntax.isGroupingSeparator(c);
+	}
+
+	/**
+	 * @param sign '+' or '-'
+	 * @return <code>true</code> if the given sign is allowed by the {@link SignPolicy} of this profile
+	 */
+	public boolean isSignAllowed(char sign) {
+		return syntax.isSignAllowed(sign);
+	}
+
+	/**
+	 * @return <code>true</code> if leading and trailing whitespace is ignored
+	 */
+	public boolean isTrimmed() {
+		return syntax.isTrimmed();
+	}
+
+	/**
+	 * @return the compiled form of this profile, which is accepted by the scanners of {@code FloatingDecimal}
+	 */
+	NumberSyntax syntax() {
+		return syntax;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof NumberFormatProfile)) {
+			return false;
+		}
+
+		NumberFormatProfile other = (NumberFormatProfile) obj;
+		return getDecimalMarks().equals(other.getDecimalMarks()) && getGroupingSeparators().equals(other.getGroupingSeparators())
+				&& signPolicy == other.signPolicy && whitespacePolicy == other.whitespacePolicy && grammar == other.grammar;
+	}
+
+	@Override
+	public int hashCode() {
+		return (((getDecimalMarks().hashCode() * 31 + getGroupingSeparators().hashCode()) * 31 + signPolicy.hashCode()) * 31
+				+ whitespacePolicy.hashCode()) * 31 + grammar.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getName() + "[decimalMarks=" + getDecimalMarks() + ",groupingSeparators=" + getGroupingSeparators()
+				+ ",signPolicy=" + signPolicy + ",whitespacePolicy=" + whitespacePolicy + ",grammar=" + grammar + "]";
+	}
+}
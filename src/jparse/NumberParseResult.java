@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse;
+
+import java.text.ParsePosition;
+
+/**
+ * Mutable, reusable result of the {@link NumberParser} methods which accept a {@code NumberParseResult}.
+ *
+ * <p>
+ * In contrast to the methods which signal an invalid input through a sentinel value ({@code -1} or {@link Double#NaN}),
+ * the result carries the {@link Status} of the last parse call, so that every value of the target type, including negative
+ * numbers and {@code NaN}, can be returned. A single instance can be reused for any number of calls, thus parsing in a
+ * tight loop does not allocate anything.
+ * </p>
+ *
+ * <p>
+ * As a {@link ParsePosition}, {@link #getIndex()} returns the index after the last parsed character and
+ * {@link #getErrorIndex()} the index of the character which caused the parsing to fail or <code>-1</code> if the last
+ * parse call was successful.
+ * </p>
+ *
+ * <p>
+ * A {@code NumberParseResult} is <b>not</b> safe for multi-threaded use.
+ * </p>
+ *
+ * @author rmunge
+ */
+public final class NumberParseResult extends ParsePosition {
+
+	/**
+	 * Outcome of a parse call.
+	 */
+	public enum Status {
+
+		/**
+		 * The input contains a valid number.
+		 */
+		OK,
+
+		/**
+		 * The input is <code>null</code> or contains no characters except ignored spaces.
+		 */
+		EMPTY,
+
+		/**
+		 * The input contains a character which is not allowed at its position, see {@link NumberParseResult#getErrorIndex()}.
+		 */
+		INVALID_CHAR,
+
+		/**
+		 * The input contains a syntactically valid number which is out of the range of the target type, see
+		 * {@link NumberParseResult#getErrorIndex()} for the index of the first digit which exceeds the range.
+		 */
+		OVERFLOW,
+
+		/**
+		 * The input contains a syntactically valid number with more fraction digits than the scale of the target type
+		 * allows, see {@link NumberParseResult#getErrorIndex()} for the index of the first digit which exceeds the scale.
+		 */
+		INEXACT
+	}
+
+	private Status status = Status.EMPTY;
+	private long longValue;
+	private double doubleValue;
+
+	/**
+	 * Creates a new result with status {@link Status#EMPTY}.
+	 */
+	public NumberParseResult() {
+		super(0);
+	}
+
+	/**
+	 * @return the status of the last parse call
+	 */
+	public Status getStatus() {
+		return status;
+	}
+
+	/**
+	 * @return <code>true</code> if the last parse call was successful
+	 */
+	public boolean isValid() {
+		return status == Status.OK;
+	}
+
+	/**
+	 * @return the value of the last successful call of an {@code int} parse method or <code>0</code> if the call failed
+	 */
+	public int getIntValue() {
+		return (int) longValue;
+	}
+
+	/**
+	 * @return the value of the last successful call of a {@code long} or {@code int} parse method or <code>0</code> if the
+	 *         call failed
+	 */
+	public long getLongValue() {
+		return longValue;
+	}
+
+	/**
+	 * @return the value of the last successful call of a {@code double} or {@code float} parse method or <code>0</code> if
+	 *         the call failed
+	 */
+	public double getDoubleValue() {
+		return doubleValue;
+	}
+
+	/**
+	 * @return the value of the last successful call of a {@code float} parse method or <code>0</code> if the call failed
+	 */
+	public float getFloatValue() {
+		return (float) doubleValue;
+	}
+
+	/**
+	 * @return the 16 bit encoding of the last successful call of a {@code parseHalf} or {@code parseBFloat16} method or
+	 *         <code>0</code> if the call failed
+	 */
+	public short getShortValue() {
+		return (short) longValue;
+	}
+
+	/**
+	 * Prepares the result for a new parse call, which starts at the given index.
+	 */
+	void reset(int start) {
+		setIndex(start);
+		setErrorIndex(-1);
+		status = Status.EMPTY;
+		longValue = 0L;
+		doubleValue = 0d;
+	}
+
+	boolean ok(long value, int end) {
+		status = Status.OK;
+		longValue = value;
+		setIndex(end);
+		return true;
+	}
+
+	boolean ok(double value, int end) {
+		status = Status.OK;
+		doubleValue = value;
+		setIndex(end);
+		return true;
+	}
+
+	boolean ok(int end) {
+		status = Status.OK;
+		setIndex(end);
+		return true;
+	}
+
+	boolean fail(Status status, int errorIndex) {
+		this.status = status;
+		setErrorIndex(errorIndex);
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getName() + "[status=" + status + ",index=" + getIndex() + ",errorIndex=" + getErrorIndex()
+				+ ",longValue=" + longValue + ",doubleValue=" + doubleValue + "]";
+	}
+}
@@ -24,19 +24,143 @@
  */
 package jparse;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import jparse.NumberParseResult.Status;
 import jparse.sun.misc.FloatingDecimal;
+import jparse.sun.misc.NumberSyntax;
+import jparse.sun.misc.UnicodeDigits;
 
 /**
- * Class with static methods for parsing positive decimal integers, doubles and floats without throwing
+ * Class with static methods for parsing positive decimal integers and longs, doubles and floats without throwing
  * any {@link NumberFormatException} or {@link IllegalArgumentException}.
  *
+ * <p>
+ * Methods which accept a {@link NumberParseResult} parse signed values and report the value together with the reason of
+ * a failure through the given result, instead of using a sentinel like <code>-1</code> or {@link Double#NaN}.
+ * </p>
+ *
+ * <p>
+ * Methods which accept a {@code CharSequence} or {@code char} array together with a <code>start</code> and
+ * <code>end</code> index parse only the given range in place, e.g. a single field of a line, without creating a
+ * sub-sequence. The same applies to ASCII or UTF-8 encoded numbers within a {@code byte} array or {@link ByteBuffer},
+ * which are parsed without decoding the bytes into a {@code String}.
+ * </p>
+ *
+ * <p>
+ * Numbers in locale specific formats, e.g. with grouping separators like "1'234.5", are parsed by the methods which
+ * accept a {@link NumberFormatProfile}. The profiles {@link NumberFormatProfile#JSON} and
+ * {@link NumberFormatProfile#JAVA} restrict the grammar to exactly the numbers of JSON or of
+ * {@link Double#valueOf(String)}.
+ * </p>
+ *
+ * <p>
+ * Columns of strings can be parsed in bulk into primitive arrays, invalid elements are marked in a separate validity
+ * bitmap, e.g. {@link #parseInts(CharSequence[], int[], long[])}. Large columns can be parsed in parallel, e.g.
+ * {@link #parallelParseInts(CharSequence[], int[], long[])}.
+ * </p>
+ *
+ * <p>
+ * Tokenizers can parse the longest number at a given index of a longer input, e.g. a JSON document, and continue at the
+ * end of the number, which is reported by {@link NumberParseResult#getIndex()}, see
+ * {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+ * </p>
+ *
+ * <p>
+ * Fixed point numbers, e.g. prices, are parsed exactly into the unscaled {@code long} value of a given scale by
+ * {@link #parseScaledLong(String, int, NumberParseResult)}. Numbers of any length are parsed into {@link BigInteger}
+ * and {@link BigDecimal} values by {@link #parseBigInteger(String)} and {@link #parseBigDecimal(String)}.
+ * </p>
+ *
+ * <p>
+ * Where the last bit of a double does not matter, e.g. for the ingestion of training data, the
+ * <code>parseDoubleApproximate</code> methods are faster than <code>parseDouble</code> for long and close to halfway
+ * inputs, at the price of an error of up to one ulp, see {@link #parseDoubleApproximate(String)}.
+ * </p>
+ *
+ * <p>
+ * Half precision and bfloat16 values, e.g. of embeddings, are parsed straight into their 16 bit encoding, rounded once
+ * from the decimal digits, by {@link #parseHalf(String)} and {@link #parseBFloat16(String)}.
+ * </p>
+ *
+ * <p>
+ * Input can be validated without converting it, e.g. to infer the type of a column, by the <code>isValid</code> methods
+ * and {@link #classify(CharSequence)}, which neither buffer digits nor compute a floating point value.
+ * </p>
+ *
  * @author rmunge
  */
 public final class NumberParser {
 
+	/**
+	 * The narrowest type of a number, see {@link NumberParser#classify(CharSequence)}.
+	 */
+	public enum NumberType {
+
+		/**
+		 * The number is valid for {@link NumberParser#parseInt(String, NumberParseResult)}.
+		 */
+		INT,
+
+		/**
+		 * The number is valid for {@link NumberParser#parseLong(String, NumberParseResult)}, but not for
+		 * {@link NumberParser#parseInt(String, NumberParseResult)}.
+		 */
+		LONG,
+
+		/**
+		 * The number is valid for {@link NumberParser#parseDouble(String, NumberParseResult)}, but not for
+		 * {@link NumberParser#parseLong(String, NumberParseResult)}.
+		 */
+		DOUBLE,
+
+		/**
+		 * The input is not a number.
+		 */
+		NOT_A_NUMBER
+	}
+
 	private static final char LATIN_0 = '\u0030';
 	private static final char LATIN_9 = '\u0039';
 	private static final int NO_POSITIVE_INT = -1;
+	private static final long NO_POSITIVE_LONG = -1L;
+	private static final NumberType[] NUMBER_TYPES = NumberType.values();
+
+	/**
+	 * The parsers of the byte array and byte buffer overloads, see
+	 * {@link #parse(ByteCharSequence, int, int, int, long, NumberFormatProfile, NumberParseResult)} and
+	 * {@link #valueOf(ByteCharSequence, int, int, int)}.
+	 */
+	private static final int SIGNED = 0;
+	private static final int SIGNED_PREFIX = 1;
+	private static final int DOUBLE = 2;
+	private static final int FLOAT = 3;
+	private static final int DOUBLE_PREFIX = 4;
+	private static final int FLOAT_PREFIX = 5;
+	private static final int SCALED = 6;
+	private static final int APPROXIMATE = 7;
+	private static final int HALF = 8;
+	private static final int BFLOAT16 = 9;
+	private static final int POSITIVE_INT = 10;
+	private static final int POSITIVE_LONG = 11;
+	private static final int DOUBLE_BITS = 12;
+	private static final int FLOAT_BITS = 13;
+	private static final int TYPE_ORDINAL = 14;
+
+	/**
+	 * The digits of the largest long and of the absolute value of the smallest long.
+	 */
+	private static final String MAX_LONG_DIGITS = "9223372036854775807";
+	private static final String MIN_LONG_DIGITS = "9223372036854775808";
+
+	/**
+	 * Maximum number of elements of a column which are parsed sequentially by the <code>parallelParse</code> methods.
+	 */
+	private static final int PARALLEL_THRESHOLD = 8192;
 
 	/**
 	 * Parses a given string as a signed decimal integer with radix 10.
@@ -75,11 +199,61 @@ public final class NumberParser {
 		if (string == null) {
 			return NO_POSITIVE_INT;
 		}
+		return parsePositiveInt(string, 0, string.length(), radix);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a positive decimal integer with radix 10, without creating a sub-sequence.
+	 *
+	 * @param src a {@code CharSequence} containing the positive decimal integer representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the positive integer value or <code>-1</code>, see {@link #parsePositiveInt(String)}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static int parsePositiveInt(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return NO_POSITIVE_INT;
+		}
+		checkRange(src.length(), start, end);
+		return parsePositiveInt(src, start, end, 10);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a positive decimal integer with radix 10, without copying the characters.
+	 *
+	 * @param src a {@code char} array containing the positive decimal integer representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the positive integer value or <code>-1</code>, see {@link #parsePositiveInt(String)}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static int parsePositiveInt(char[] src, int start, int end) {
+
+		if (src == null) {
+			return NO_POSITIVE_INT;
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return parsePositiveInt(chars, start, end, 10);
+		} finally {
+			chars.release();
+		}
+	}
 
-		final int length = string.length();
-		int i = 0;
+	private static int parsePositiveInt(CharSequence string, int start, int end, int radix) {
 
-		if (length == 0) {
+		final int length = end;
+		int i = start;
+
+		if (i >= length) {
 			return NO_POSITIVE_INT;
 		}
 
@@ -129,12 +303,13 @@ public final class NumberParser {
 			 * Guarantees best performance for strings which contain only latin digits.
 			 * To limit potential negative performance impact on strings which contain only non-latin digits,
 			 * we skip the explicit check for latin digits after we've found at least one non-latin digit.
+			 * Other decimal digits are looked up in the table of UnicodeDigits, which is almost as fast.
 			 */
 			if (checkForLatinDigitsFirst && c >= LATIN_0 && c <= LATIN_9) {
 				digit = c - LATIN_0;
 
 			} else {
-				digit = Character.digit(c, radix);
+				digit = (radix == 10) ? UnicodeDigits.digit(c) : Character.digit(c, radix);
 
 				if (digit < 0) {
 					return NO_POSITIVE_INT;
@@ -164,39 +339,2934 @@ public final class NumberParser {
 	}
 
 	/**
-	 * Returns a new {@code Double} initialized to the value
-	 * represented by the specified {@code String}.
+	 * Parses a given string as a positive decimal long with radix 10.
+	 * <p>
+	 * Same as {@link #parsePositiveInt(String)} but for values up to {@link Long#MAX_VALUE}, e.g. timestamps in epoch
+	 * milliseconds, sequence IDs or byte counters.
+	 * </p>
 	 *
+	 * @param string a {@code String} containing the positive decimal long representation to be parsed
+	 * @return the positive long value represented by the argument in decimal or <code>-1</code> if the string does not
+	 *         contain a valid representation of a positive decimal long (with an optional leading '+' sign, leading and
+	 *         trailing spaces an spaces as separators e.g. "1 000 000 000 000")
+	 */
+	public static long parsePositiveLong(String string) {
+		return parsePositiveLong(string, 10);
+	}
+
+	/**
+	 * Parses a given string as a positive long.
 	 * <p>
-	 * In contrast to {@link Double#parseDouble(String)} both, ',' and '.' are supported as decimal separator independent from the
-	 * current locale.
+	 * Same as {@link #parsePositiveInt(String, int)} but for values up to {@link Long#MAX_VALUE}.
 	 * </p>
 	 *
-	 * @param string the string to be parsed.
-	 * @return the <tt>double</tt> value represented by the string
-	 *         argument or {@link Double#NaN} if the string does not contain
-	 *         a valid representation of a floating decimal or is <code>null</code>
+	 * @param string a {@code String} containing the positive long representation to be parsed
+	 * @param radix the radix (e.g. 16 for Hex)
+	 * @return the positive long value represented by the argument or <code>-1</code> if the string does not contain a
+	 *         valid representation of a positive long (with an optional leading '+' sign, leading and trailing spaces
+	 *         an spaces as separators e.g. "1 000 000 000 000")
 	 */
-	public static double parseDouble(String string) {
-		return FloatingDecimal.parseDouble(string);
+	public static long parsePositiveLong(String string, int radix) {
+
+		if (string == null) {
+			return NO_POSITIVE_LONG;
+		}
+		return parsePositiveLong(string, 0, string.length(), radix);
 	}
 
 	/**
-	 * Returns a new {@code Float} initialized to the value
-	 * represented by the specified {@code String}.
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a positive decimal long with radix 10, without creating a sub-sequence.
+	 *
+	 * @param src a {@code CharSequence} containing the positive decimal long representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the positive long value or <code>-1</code>, see {@link #parsePositiveLong(String)}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static long parsePositiveLong(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return NO_POSITIVE_LONG;
+		}
+		checkRange(src.length(), start, end);
+		return parsePositiveLong(src, start, end, 10);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a positive decimal long with radix 10, without copying the characters.
 	 *
+	 * @param src a {@code char} array containing the positive decimal long representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the positive long value or <code>-1</code>, see {@link #parsePositiveLong(String)}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static long parsePositiveLong(char[] src, int start, int end) {
+
+		if (src == null) {
+			return NO_POSITIVE_LONG;
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return parsePositiveLong(chars, start, end, 10);
+		} finally {
+			chars.release();
+		}
+	}
+
+	private static long parsePositiveLong(CharSequence string, int start, int end, int radix) {
+
+		final int length = end;
+		int i = start;
+
+		if (i >= length) {
+			return NO_POSITIVE_LONG;
+		}
+
+		// skip leading spaces
+		while (string.charAt(i) == ' ') {
+			i++;
+			if (i >= length) {
+				return NO_POSITIVE_LONG;
+			}
+		}
+
+		char potentialSign = string.charAt(i);
+
+		if (potentialSign < '0') {
+
+			if (potentialSign != '+') {
+				return NO_POSITIVE_LONG;
+			}
+
+			if (i == length - 1) {
+				// just a '+' is not a valid number
+				return NO_POSITIVE_LONG;
+			}
+			i++;
+		}
+
+		final long multiplicationLimit = Long.MAX_VALUE / radix;
+		boolean checkForLatinDigitsFirst = (radix == 10);
+		int digit;
+		long result = 0;
+
+		while (i < length) {
+
+			char c = string.charAt(i);
+
+			// ignore spaces
+			if (c == ' ') {
+				i++;
+				continue;
+			}
+
+			// optimized path for ISO-LATIN-1 digits, see parsePositiveInt()
+			if (checkForLatinDigitsFirst && c >= LATIN_0 && c <= LATIN_9) {
+				digit = c - LATIN_0;
+
+			} else {
+				digit = (radix == 10) ? UnicodeDigits.digit(c) : Character.digit(c, radix);
+
+				if (digit < 0) {
+					return NO_POSITIVE_LONG;
+
+				} else {
+					checkForLatinDigitsFirst = false;
+				}
+			}
+
+			// check the limits BEFORE we do any calculations
+			if (result > multiplicationLimit) {
+				return NO_POSITIVE_LONG;
+			}
+			result *= radix;
+
+			if (result > Long.MAX_VALUE - digit) {
+				return NO_POSITIVE_LONG;
+			}
+
+			result += digit;
+			i++;
+		}
+		return result;
+	}
+
+	/**
+	 * Parses a given string as a signed decimal integer with radix 10.
 	 * <p>
-	 * In contrast to {@link Float#parseFloat(String)} both, ',' and '.' are supported as decimal separator independent from the
-	 * current locale.
+	 * Same grammar as {@link #parsePositiveInt(String)}, but the first character after leading spaces may also be an
+	 * ASCII minus sign {@code '-'} ({@code '\u005Cu002D'}) to indicate a negative value.
 	 * </p>
 	 *
-	 * @param string the string to be parsed.
-	 * @return the <tt>float</tt> value represented by the string
-	 *         argument or {@link Float#NaN} if the string does not contain
-	 *         a valid representation of a floating decimal or is <code>null</code>
+	 * @param string a {@code String} containing the signed decimal integer representation to be parsed
+	 * @param result receives the integer value or the reason why the string does not contain a valid integer
+	 * @return <code>true</code> if the string contains a valid integer, see {@link NumberParseResult#getIntValue()}
 	 */
-	public static float parseFloat(String string) {
-		return FloatingDecimal.parseFloat(string);
+	public static boolean parseInt(String string, NumberParseResult result) {
+		return parseSigned(string, 10, Integer.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a signed decimal integer with radix 10, without creating a sub-sequence.
+	 *
+	 * @param src a {@code CharSequence} containing the signed decimal integer representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the integer value or the reason why the range does not contain a valid integer, all
+	 *        indices refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid integer, see {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseInt(CharSequence src, int start, int end, NumberParseResult result) {
+
+		if (src == null) {
+			return parseSigned(null, 10, Integer.MAX_VALUE, result);
+		}
+		checkRange(src.length(), start, end);
+		return parseSigned(src, start, end, 10, Integer.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a signed decimal integer with radix 10, without copying the characters.
+	 *
+	 * @param src a {@code char} array containing the signed decimal integer representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the integer value or the reason why the range does not contain a valid integer, all
+	 *        indices refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid integer, see {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseInt(char[] src, int start, int end, NumberParseResult result) {
+
+		if (src == null) {
+			return parseSigned(null, 10, Integer.MAX_VALUE, result);
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return parseSigned(chars, start, end, 10, Integer.MAX_VALUE, result);
+		} finally {
+			chars.release();
+		}
+	}
+
+	/**
+	 * Parses a given string as a signed integer.
+	 *
+	 * @param string a {@code String} containing the signed integer representation to be parsed
+	 * @param radix the radix (e.g. 16 for Hex)
+	 * @param result receives the integer value or the reason why the string does not contain a valid integer
+	 * @return <code>true</code> if the string contains a valid integer, see {@link NumberParseResult#getIntValue()}
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseInt(String string, int radix, NumberParseResult result) {
+		return parseSigned(string, radix, Integer.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses a given string as a signed decimal long with radix 10.
+	 *
+	 * @param string a {@code String} containing the signed decimal long representation to be parsed
+	 * @param result receives the long value or the reason why the string does not contain a valid long
+	 * @return <code>true</code> if the string contains a valid long, see {@link NumberParseResult#getLongValue()}
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseLong(String string, NumberParseResult result) {
+		return parseSigned(string, 10, Long.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a signed decimal long with radix 10, without creating a sub-sequence.
+	 *
+	 * @param src a {@code CharSequence} containing the signed decimal long representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the long value or the reason why the range does not contain a valid long, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid long, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseLong(CharSequence src, int start, int end, NumberParseResult result) {
+
+		if (src == null) {
+			return parseSigned(null, 10, Long.MAX_VALUE, result);
+		}
+		checkRange(src.length(), start, end);
+		return parseSigned(src, start, end, 10, Long.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a signed decimal long with radix 10, without copying the characters.
+	 *
+	 * @param src a {@code char} array containing the signed decimal long representation to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the long value or the reason why the range does not contain a valid long, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid long, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseLong(char[] src, int start, int end, NumberParseResult result) {
+
+		if (src == null) {
+			return parseSigned(null, 10, Long.MAX_VALUE, result);
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return parseSigned(chars, start, end, 10, Long.MAX_VALUE, result);
+		} finally {
+			chars.release();
+		}
+	}
+
+	/**
+	 * Parses a given string as a signed long.
+	 *
+	 * @param string a {@code String} containing the signed long representation to be parsed
+	 * @param radix the radix (e.g. 16 for Hex)
+	 * @param result receives the long value or the reason why the string does not contain a valid long
+	 * @return <code>true</code> if the string contains a valid long, see {@link NumberParseResult#getLongValue()}
+	 * @see #parseInt(String, NumberParseResult)
+	 */
+	public static boolean parseLong(String string, int radix, NumberParseResult result) {
+		return parseSigned(string, radix, Long.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses a signed integer with a maximum value of <code>maxValue</code>.
+	 */
+	private static boolean parseSigned(String string, int radix, long maxValue, NumberParseResult result) {
+
+		if (string == null) {
+			result.reset(0);
+			return result.fail(Status.EMPTY, 0);
+		}
+		return parseSigned(string, 0, string.length(), radix, maxValue, result);
+	}
+
+	static boolean parseSigned(CharSequence string, int start, int end, int radix, long maxValue,
+			NumberParseResult result) {
+
+		result.reset(start);
+
+		final int length = end;
+		int i = start;
+
+		// skip leading spaces
+		while (i < length && string.charAt(i) == ' ') {
+			i++;
+		}
+
+		if (i >= length) {
+			return result.fail(Status.EMPTY, i);
+		}
+
+		final int signIndex = i;
+		boolean negative = false;
+		char potentialSign = string.charAt(i);
+
+		if (potentialSign < '0') {
+
+			if (potentialSign == '-') {
+				negative = true;
+
+			} else if (potentialSign != '+') {
+				return result.fail(Status.INVALID_CHAR, i);
+			}
+			i++;
+		}
+
+		// like Long.parseLong() we accumulate negatively, since the range of negative values is larger
+		final long limit = negative ? -maxValue - 1 : -maxValue;
+		final long multiplicationLimit = limit / radix;
+		boolean checkForLatinDigitsFirst = (radix == 10);
+		boolean digitSeen = false;
+		int digit;
+		long value = 0;
+
+		while (i < length) {
+
+			char c = string.charAt(i);
+
+			// ignore spaces
+			if (c == ' ') {
+				i++;
+				continue;
+			}
+
+			// optimized path for ISO-LATIN-1 digits, see parsePositiveInt()
+			if (checkForLatinDigitsFirst && c >= LATIN_0 && c <= LATIN_9) {
+				digit = c - LATIN_0;
+
+			} else {
+				digit = (radix == 10) ? UnicodeDigits.digit(c) : Character.digit(c, radix);
+
+				if (digit < 0) {
+					return result.fail(Status.INVALID_CHAR, i);
+
+				} else {
+					checkForLatinDigitsFirst = false;
+				}
+			}
+
+			// check the limits BEFORE we do any calculations
+			if (value < multiplicationLimit) {
+				return result.fail(Status.OVERFLOW, i);
+			}
+			value *= radix;
+
+			if (value < limit + digit) {
+				return result.fail(Status.OVERFLOW, i);
+			}
+
+			value -= digit;
+			digitSeen = true;
+			i++;
+		}
+
+		if (!digitSeen) {
+			// just a '+' or '-' is not a valid number
+			return result.fail(Status.INVALID_CHAR, signIndex);
+		}
+		return result.ok(negative ? value : -value, length);
+	}
+
+	/**
+	 * Returns a new {@code Double} initialized to the value
+	 * represented by the specified {@code String}.
+	 *
+	 * <p>
+	 * In contrast to {@link Double#parseDouble(String)} both, ',' and '.' are supported as decimal separator
+	 * independent from the current locale. Decimal digits of any script, e.g. arabic-indic or full-width digits, and
+	 * the arabic decimal separator (U+066B) are accepted as well.
+	 * </p>
+	 *
+	 * @param string the string to be parsed.
+	 * @return the <tt>double</tt> value represented by the string
+	 *         argument or {@link Double#NaN} if the string does not contain
+	 *         a valid representation of a floating decimal or is <code>null</code>
+	 */
+	public static double parseDouble(String string) {
+		return FloatingDecimal.parseDouble(string);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a double like {@link #parseDouble(String)}, without creating a sub-sequence.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the <tt>double</tt> value represented by the range or {@link Double#NaN} if the range does not contain a
+	 *         valid representation of a floating decimal or <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static double parseDouble(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return Double.NaN;
+		}
+		checkRange(src.length(), start, end);
+		return FloatingDecimal.parseDouble(src, start, end, null);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a double like {@link #parseDouble(String)}, without copying the characters.
+	 *
+	 * @param src the character array to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the <tt>double</tt> value represented by the range or {@link Double#NaN} if the range does not contain a
+	 *         valid representation of a floating decimal or <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static double parseDouble(char[] src, int start, int end) {
+
+		if (src == null) {
+			return Double.NaN;
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return FloatingDecimal.parseDouble(chars, start, end, null);
+		} finally {
+			chars.release();
+		}
+	}
+
+	/**
+	 * Returns a new {@code Float} initialized to the value
+	 * represented by the specified {@code String}.
+	 *
+	 * <p>
+	 * In contrast to {@link Float#parseFloat(String)} both, ',' and '.' are supported as decimal separator independent from the
+	 * current locale.
+	 * </p>
+	 *
+	 * @param string the string to be parsed.
+	 * @return the <tt>float</tt> value represented by the string
+	 *         argument or {@link Float#NaN} if the string does not contain
+	 *         a valid representation of a floating decimal or is <code>null</code>
+	 */
+	public static float parseFloat(String string) {
+		return FloatingDecimal.parseFloat(string);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a float like {@link #parseFloat(String)}, without creating a sub-sequence.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the <tt>float</tt> value represented by the range or {@link Float#NaN} if the range does not contain a
+	 *         valid representation of a floating decimal or <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static float parseFloat(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return Float.NaN;
+		}
+		checkRange(src.length(), start, end);
+		return FloatingDecimal.parseFloat(src, start, end, null);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a float like {@link #parseFloat(String)}, without copying the characters.
+	 *
+	 * @param src the character array to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the <tt>float</tt> value represented by the range or {@link Float#NaN} if the range does not contain a
+	 *         valid representation of a floating decimal or <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static float parseFloat(char[] src, int start, int end) {
+
+		if (src == null) {
+			return Float.NaN;
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return FloatingDecimal.parseFloat(chars, start, end, null);
+		} finally {
+			chars.release();
+		}
+	}
+
+	/**
+	 * Parses a given string as a double like {@link #parseDouble(String)}.
+	 * <p>
+	 * In contrast to {@link #parseDouble(String)} an invalid string can be distinguished from the string "NaN".
+	 * </p>
+	 *
+	 * @param string the string to be parsed.
+	 * @param result receives the double value or the reason why the string does not contain a valid double
+	 * @return <code>true</code> if the string contains a valid double, see {@link NumberParseResult#getDoubleValue()}
+	 */
+	public static boolean parseDouble(String string, NumberParseResult result) {
+		return parseFloatingPoint(string, 0, string == null ? 0 : string.length(), false, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a double like {@link #parseDouble(String, NumberParseResult)}, without creating a sub-sequence.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the double value or the reason why the range does not contain a valid double, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDouble(CharSequence src, int start, int end, NumberParseResult result) {
+
+		if (src != null) {
+			checkRange(src.length(), start, end);
+		}
+		return parseFloatingPoint(src, start, end, false, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a double like {@link #parseDouble(String, NumberParseResult)}, without copying the characters.
+	 *
+	 * @param src the character array to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the double value or the reason why the range does not contain a valid double, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDouble(char[] src, int start, int end, NumberParseResult result) {
+
+		if (src == null) {
+			return parseFloatingPoint(null, start, end, false, result);
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return parseFloatingPoint(chars, start, end, false, result);
+		} finally {
+			chars.release();
+		}
+	}
+
+	/**
+	 * Parses a given string as a float like {@link #parseFloat(String)}.
+	 * <p>
+	 * In contrast to {@link #parseFloat(String)} an invalid string can be distinguished from the string "NaN".
+	 * </p>
+	 *
+	 * @param string the string to be parsed.
+	 * @param result receives the float value or the reason why the string does not contain a valid float
+	 * @return <code>true</code> if the string contains a valid float, see {@link NumberParseResult#getFloatValue()}
+	 */
+	public static boolean parseFloat(String string, NumberParseResult result) {
+		return parseFloatingPoint(string, 0, string == null ? 0 : string.length(), true, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a float like {@link #parseFloat(String, NumberParseResult)}, without creating a sub-sequence.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the float value or the reason why the range does not contain a valid float, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid float, see {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloat(CharSequence src, int start, int end, NumberParseResult result) {
+
+		if (src != null) {
+			checkRange(src.length(), start, end);
+		}
+		return parseFloatingPoint(src, start, end, true, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character array
+	 * as a float like {@link #parseFloat(String, NumberParseResult)}, without copying the characters.
+	 *
+	 * @param src the character array to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the float value or the reason why the range does not contain a valid float, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a valid float, see {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloat(char[] src, int start, int end, NumberParseResult result) {
+
+		if (src == null) {
+			return parseFloatingPoint(null, start, end, true, result);
+		}
+		checkRange(src.length, start, end);
+		final CharArraySequence chars = CharArraySequence.ofThread(src);
+
+		try {
+			return parseFloatingPoint(chars, start, end, true, result);
+		} finally {
+			chars.release();
+		}
+	}
+
+	/*
+	 * Bulk parsing of columns into primitive arrays with a validity bitmap.
+	 */
+
+	/**
+	 * Parses all elements of <code>src</code> like {@link #parseInt(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap (may be <code>null</code>) with at least <code>(src.length + 63) / 64</code>
+	 *        elements, the bit <code>i % 64</code> of the element <code>i / 64</code> is set if <code>src[i]</code> is
+	 *        valid and cleared otherwise
+	 * @return the number of valid elements
+	 */
+	public static int parseInts(CharSequence[] src, int[] dst, long[] validity) {
+		return parseInts(src, 0, src.length, dst, validity);
+	}
+
+	/**
+	 * Parses the elements <code>from</code> (inclusive) to <code>to</code> (exclusive) of <code>src</code> like
+	 * {@link #parseInt(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param from index of the first element to be parsed
+	 * @param to index after the last element to be parsed
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap (may be <code>null</code>), the bit <code>i % 64</code> of the element
+	 * <code>i / 64</code> is set if <code>src[i]</code> is valid and cleared otherwise, bits outside of the range are
+	 * not modified
+	 * @return the number of valid elements within the range
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of <code>src</code>, <code>dst</code> or
+	 *         <code>validity</code>
+	 */
+	public static int parseInts(CharSequence[] src, int from, int to, int[] dst, long[] validity) {
+
+		checkBulkRange(src.length, dst.length, validity, from, to);
+		final NumberParseResult result = new NumberParseResult();
+		int valid = 0;
+
+		for (int i = from; i < to; i++) {
+			final CharSequence element = src[i];
+			final boolean isValid = element != null
+					&& parseSigned(element, 0, element.length(), 10, Integer.MAX_VALUE, result);
+
+			dst[i] = isValid ? result.getIntValue() : 0;
+			valid += setValidity(validity, i, isValid);
+		}
+		return valid;
+	}
+
+	/**
+	 * Parses all elements of <code>src</code> like {@link #parseLong(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int[], long[])}
+	 * @return the number of valid elements
+	 */
+	public static int parseLongs(CharSequence[] src, long[] dst, long[] validity) {
+		return parseLongs(src, 0, src.length, dst, validity);
+	}
+
+	/**
+	 * Parses the elements <code>from</code> (inclusive) to <code>to</code> (exclusive) of <code>src</code> like
+	 * {@link #parseLong(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param from index of the first element to be parsed
+	 * @param to index after the last element to be parsed
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int, int, int[], long[])}
+	 * @return the number of valid elements within the range
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of <code>src</code>, <code>dst</code> or
+	 *         <code>validity</code>
+	 */
+	public static int parseLongs(CharSequence[] src, int from, int to, long[] dst, long[] validity) {
+
+		checkBulkRange(src.length, dst.length, validity, from, to);
+		final NumberParseResult result = new NumberParseResult();
+		int valid = 0;
+
+		for (int i = from; i < to; i++) {
+			final CharSequence element = src[i];
+			final boolean isValid = element != null
+					&& parseSigned(element, 0, element.length(), 10, Long.MAX_VALUE, result);
+
+			dst[i] = isValid ? result.getLongValue() : 0L;
+			valid += setValidity(validity, i, isValid);
+		}
+		return valid;
+	}
+
+	/**
+	 * Parses all elements of <code>src</code> like {@link #parseDouble(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int[], long[])}
+	 * @return the number of valid elements
+	 */
+	public static int parseDoubles(CharSequence[] src, double[] dst, long[] validity) {
+		return parseDoubles(src, 0, src.length, dst, validity);
+	}
+
+	/**
+	 * Parses the elements <code>from</code> (inclusive) to <code>to</code> (exclusive) of <code>src</code> like
+	 * {@link #parseDouble(CharSequence, int, int, NumberParseResult)}.
+	 * <p>
+	 * The string "NaN" is a valid element, an invalid element is only indicated by the validity bitmap.
+	 * </p>
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param from index of the first element to be parsed
+	 * @param to index after the last element to be parsed
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int, int, int[], long[])}
+	 * @return the number of valid elements within the range
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of <code>src</code>, <code>dst</code> or
+	 *         <code>validity</code>
+	 */
+	public static int parseDoubles(CharSequence[] src, int from, int to, double[] dst, long[] validity) {
+
+		checkBulkRange(src.length, dst.length, validity, from, to);
+		final NumberParseResult result = new NumberParseResult();
+		int valid = 0;
+
+		for (int i = from; i < to; i++) {
+			final CharSequence element = src[i];
+			final boolean isValid = element != null && parseFloatingPoint(element, 0, element.length(), false, result);
+
+			dst[i] = isValid ? result.getDoubleValue() : 0d;
+			valid += setValidity(validity, i, isValid);
+		}
+		return valid;
+	}
+
+	/**
+	 * Parses all elements of <code>src</code> like {@link #parseInts(CharSequence[], int[], long[])}, columns with more
+	 * than {@value #PARALLEL_THRESHOLD} elements are parsed in parallel by the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int[], long[])}
+	 * @return the number of valid elements
+	 */
+	public static int parallelParseInts(CharSequence[] src, int[] dst, long[] validity) {
+		return parallelParseInts(src, 0, src.length, dst, validity);
+	}
+
+	/**
+	 * Parses the elements <code>from</code> (inclusive) to <code>to</code> (exclusive) of <code>src</code> like
+	 * {@link #parseInts(CharSequence[], int, int, int[], long[])}, ranges with more than {@value #PARALLEL_THRESHOLD}
+	 * elements are parsed in parallel by the {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param from index of the first element to be parsed
+	 * @param to index after the last element to be parsed
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int, int, int[], long[])}
+	 * @return the number of valid elements within the range
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of <code>src</code>, <code>dst</code> or
+	 *         <code>validity</code>
+	 */
+	public static int parallelParseInts(CharSequence[] src, int from, int to, int[] dst, long[] validity) {
+
+		checkBulkRange(src.length, dst.length, validity, from, to);
+		return ColumnTask.invoke(new ColumnTask(src, from, to, dst, null, null, validity));
+	}
+
+	/**
+	 * Parses all elements of <code>src</code> like {@link #parseLongs(CharSequence[], long[], long[])}, see
+	 * {@link #parallelParseInts(CharSequence[], int[], long[])}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int[], long[])}
+	 * @return the number of valid elements
+	 */
+	public static int parallelParseLongs(CharSequence[] src, long[] dst, long[] validity) {
+		return parallelParseLongs(src, 0, src.length, dst, validity);
+	}
+
+	/**
+	 * Parses the elements <code>from</code> (inclusive) to <code>to</code> (exclusive) of <code>src</code> like
+	 * {@link #parseLongs(CharSequence[], int, int, long[], long[])}, see
+	 * {@link #parallelParseInts(CharSequence[], int, int, int[], long[])}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param from index of the first element to be parsed
+	 * @param to index after the last element to be parsed
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int, int, int[], long[])}
+	 * @return the number of valid elements within the range
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of <code>src</code>, <code>dst</code> or
+	 *         <code>validity</code>
+	 */
+	public static int parallelParseLongs(CharSequence[] src, int from, int to, long[] dst, long[] validity) {
+
+		checkBulkRange(src.length, dst.length, validity, from, to);
+		return ColumnTask.invoke(new ColumnTask(src, from, to, null, dst, null, validity));
+	}
+
+	/**
+	 * Parses all elements of <code>src</code> like {@link #parseDoubles(CharSequence[], double[], long[])}, see
+	 * {@link #parallelParseInts(CharSequence[], int[], long[])}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int[], long[])}
+	 * @return the number of valid elements
+	 */
+	public static int parallelParseDoubles(CharSequence[] src, double[] dst, long[] validity) {
+		return parallelParseDoubles(src, 0, src.length, dst, validity);
+	}
+
+	/**
+	 * Parses the elements <code>from</code> (inclusive) to <code>to</code> (exclusive) of <code>src</code> like
+	 * {@link #parseDoubles(CharSequence[], int, int, double[], long[])}, see
+	 * {@link #parallelParseInts(CharSequence[], int, int, int[], long[])}.
+	 *
+	 * @param src the strings to be parsed, may contain <code>null</code> elements
+	 * @param from index of the first element to be parsed
+	 * @param to index after the last element to be parsed
+	 * @param dst receives the value of each valid element at the same index, <code>0</code> for invalid elements
+	 * @param validity optional bitmap, see {@link #parseInts(CharSequence[], int, int, int[], long[])}
+	 * @return the number of valid elements within the range
+	 * @throws IndexOutOfBoundsException if the range is not within the bounds of <code>src</code>, <code>dst</code> or
+	 *         <code>validity</code>
+	 */
+	public static int parallelParseDoubles(CharSequence[] src, int from, int to, double[] dst, long[] validity) {
+
+		checkBulkRange(src.length, dst.length, validity, from, to);
+		return ColumnTask.invoke(new ColumnTask(src, from, to, null, null, dst, validity));
+	}
+
+	/**
+	 * Parses a range of a column by recursively splitting it into halves until a chunk contains at most
+	 * {@link #PARALLEL_THRESHOLD} elements.
+	 * <p>
+	 * Chunks are split at multiples of 64, thus two chunks never share an element of the validity bitmap and every
+	 * chunk writes without synchronization into its own slice of the output. Each chunk counts its valid elements
+	 * locally, the counts are summed up when the chunks are joined.
+	 * </p>
+	 */
+	private static final class ColumnTask extends RecursiveTask<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final CharSequence[] src;
+		private final int from;
+		private final int to;
+		private final int[] ints;
+		private final long[] longs;
+		private final double[] doubles;
+		private final long[] validity;
+
+		ColumnTask(CharSequence[] src, int from, int to, int[] ints, long[] longs, double[] doubles, long[] validity) {
+			this.src = src;
+			this.from = from;
+			this.to = to;
+			this.ints = ints;
+			this.longs = longs;
+			this.doubles = doubles;
+			this.validity = validity;
+		}
+
+		static int invoke(ColumnTask task) {
+			return (task.to - task.from <= PARALLEL_THRESHOLD) ? task.compute()
+					: ForkJoinPool.commonPool().invoke(task);
+		}
+
+		@Override
+		protected Integer compute() {
+
+			final int middle = ((from + to) >>> 1) & ~63;
+
+			if (to - from <= PARALLEL_THRESHOLD || middle <= from) {
+
+				if (ints != null) {
+					return parseInts(src, from, to, ints, validity);
+				}
+
+				if (longs != null) {
+					return parseLongs(src, from, to, longs, validity);
+				}
+				return parseDoubles(src, from, to, doubles, validity);
+			}
+
+			ColumnTask lower = new ColumnTask(src, from, middle, ints, longs, doubles, validity);
+			ColumnTask upper = new ColumnTask(src, middle, to, ints, longs, doubles, validity);
+			lower.fork();
+			int valid = upper.compute();
+			return valid + lower.join();
+		}
+	}
+
+	/**
+	 * Sets or clears the bit of element <code>i</code> and returns <code>1</code> if the element is valid.
+	 */
+	private static int setValidity(long[] validity, int i, boolean isValid) {
+
+		if (isValid) {
+			if (validity != null) {
+				validity[i >>> 6] |= 1L << i;
+			}
+			return 1;
+		}
+
+		if (validity != null) {
+			validity[i >>> 6] &= ~(1L << i);
+		}
+		return 0;
+	}
+
+	private static void checkBulkRange(int srcLength, int dstLength, long[] validity, int from, int to) {
+
+		checkRange(Math.min(srcLength, dstLength), from, to);
+
+		if (validity != null && to > 0 && ((to - 1) >>> 6) >= validity.length) {
+			throw new IndexOutOfBoundsException("validity bitmap with " + validity.length + " elements, required "
+					+ (((to - 1) >>> 6) + 1));
+		}
+	}
+
+	/*
+	 * Parsing of locale specific formats, see NumberFormatProfile.
+	 */
+	/**
+	 * Parses a given string as a signed decimal integer in the format of a given profile, e.g. "-1.234,5" with
+	 * {@link NumberFormatProfile#GERMAN}.
+	 * <p>
+	 * In contrast to {@link #parseInt(String, NumberParseResult)} spaces are only ignored if they are grouping
+	 * separators of the profile or around the number if the profile trims whitespace. A decimal mark is an invalid
+	 * character.
+	 * </p>
+	 *
+	 * @param string the string to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the string does not contain an integer
+	 * @return <code>true</code> if the string contains an integer, see {@link NumberParseResult#getIntValue()}
+	 */
+	public static boolean parseInt(String string, NumberFormatProfile profile, NumberParseResult result) {
+
+		if (string == null) {
+			return parseSigned(null, 10, Integer.MAX_VALUE, result);
+		}
+		return parseSigned(string, 0, string.length(), Integer.MAX_VALUE, profile, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} like {@link #parseInt(String, NumberFormatProfile, NumberParseResult)}.
+	 *
+	 * @param src the characters to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the range does not contain an integer, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains an integer, see {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseInt(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		if (src == null) {
+			return parseSigned(null, 10, Integer.MAX_VALUE, result);
+		}
+		checkRange(src.length(), start, end);
+		return parseSigned(src, start, end, Integer.MAX_VALUE, profile, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array like
+	 * {@link #parseInt(String, NumberFormatProfile, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format, only ASCII
+	 *        characters of the profile are matched
+	 * @param result receives the value or the reason why the range does not contain an integer, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains an integer, see {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseInt(byte[] src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parse(src, start, end, SIGNED, Integer.MAX_VALUE, profile, result);
+	}
+
+	/**
+	 * Parses a given string as a signed decimal long in the format of a given profile, e.g. "-1.234,5" with
+	 * {@link NumberFormatProfile#GERMAN}.
+	 * <p>
+	 * In contrast to {@link #parseLong(String, NumberParseResult)} spaces are only ignored if they are grouping
+	 * separators of the profile or around the number if the profile trims whitespace. A decimal mark is an invalid
+	 * character.
+	 * </p>
+	 *
+	 * @param string the string to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the string does not contain a long
+	 * @return <code>true</code> if the string contains a long, see {@link NumberParseResult#getLongValue()}
+	 */
+	public static boolean parseLong(String string, NumberFormatProfile profile, NumberParseResult result) {
+
+		if (string == null) {
+			return parseSigned(null, 10, Long.MAX_VALUE, result);
+		}
+		return parseSigned(string, 0, string.length(), Long.MAX_VALUE, profile, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} like {@link #parseLong(String, NumberFormatProfile, NumberParseResult)}.
+	 *
+	 * @param src the characters to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the range does not contain a long, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a long, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseLong(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		if (src == null) {
+			return parseSigned(null, 10, Long.MAX_VALUE, result);
+		}
+		checkRange(src.length(), start, end);
+		return parseSigned(src, start, end, Long.MAX_VALUE, profile, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array like
+	 * {@link #parseLong(String, NumberFormatProfile, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format, only ASCII
+	 *        characters of the profile are matched
+	 * @param result receives the value or the reason why the range does not contain a long, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a long, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseLong(byte[] src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parse(src, start, end, SIGNED, Long.MAX_VALUE, profile, result);
+	}
+
+	/**
+	 * Parses a given string as a double in the format of a given profile, e.g. "-1.234,5" with
+	 * {@link NumberFormatProfile#GERMAN}.
+	 *
+	 * @param string the string to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the string does not contain a double
+	 * @return <code>true</code> if the string contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 */
+	public static boolean parseDouble(String string, NumberFormatProfile profile, NumberParseResult result) {
+
+		if (string == null) {
+			return parseFloatingPoint(null, 0, 0, false, profile, result);
+		}
+		return parseFloatingPoint(string, 0, string.length(), false, profile, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} like {@link #parseDouble(String, NumberFormatProfile, NumberParseResult)}.
+	 *
+	 * @param src the characters to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the range does not contain a double, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDouble(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		if (src == null) {
+			return parseFloatingPoint(null, 0, 0, false, profile, result);
+		}
+		checkRange(src.length(), start, end);
+		return parseFloatingPoint(src, start, end, false, profile, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array like
+	 * {@link #parseDouble(String, NumberFormatProfile, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format, only ASCII
+	 *        characters of the profile are matched
+	 * @param result receives the value or the reason why the range does not contain a double, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDouble(byte[] src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parse(src, start, end, DOUBLE, 0, profile, result);
+	}
+
+	/**
+	 * Parses a given string as a float in the format of a given profile, e.g. "-1.234,5" with
+	 * {@link NumberFormatProfile#GERMAN}.
+	 *
+	 * @param string the string to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the string does not contain a float
+	 * @return <code>true</code> if the string contains a float, see {@link NumberParseResult#getFloatValue()}
+	 */
+	public static boolean parseFloat(String string, NumberFormatProfile profile, NumberParseResult result) {
+
+		if (string == null) {
+			return parseFloatingPoint(null, 0, 0, true, profile, result);
+		}
+		return parseFloatingPoint(string, 0, string.length(), true, profile, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} like {@link #parseFloat(String, NumberFormatProfile, NumberParseResult)}.
+	 *
+	 * @param src the characters to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the range does not contain a float, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a float, see {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloat(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		if (src == null) {
+			return parseFloatingPoint(null, 0, 0, true, profile, result);
+		}
+		checkRange(src.length(), start, end);
+		return parseFloatingPoint(src, start, end, true, profile, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array like
+	 * {@link #parseFloat(String, NumberFormatProfile, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format, only ASCII
+	 *        characters of the profile are matched
+	 * @param result receives the value or the reason why the range does not contain a float, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a float, see {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloat(byte[] src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parse(src, start, end, FLOAT, 0, profile, result);
+	}
+
+	/**
+	 * Parses a signed integer with a maximum value of <code>maxValue</code> in the format of a given profile.
+	 */
+	static boolean parseSigned(CharSequence string, int start, int end, long maxValue, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		result.reset(start);
+
+		int i = start;
+		int length = end;
+
+		if (profile.isTrimmed()) {
+			while (i < length && string.charAt(i) <= ' ') {
+				i++;
+			}
+			while (length > i && string.charAt(length - 1) <= ' ') {
+				length--;
+			}
+		}
+
+		if (i >= length) {
+			return result.fail(Status.EMPTY, i);
+		}
+
+		final int signIndex = i;
+		boolean negative = false;
+		char potentialSign = string.charAt(i);
+
+		if (potentialSign == '-' || potentialSign == '+') {
+
+			if (!profile.isSignAllowed(potentialSign)) {
+				return result.fail(Status.INVALID_CHAR, i);
+			}
+			negative = (potentialSign == '-');
+			i++;
+		}
+
+		// the strict grammars accept only ASCII digits, JSON no leading zeros
+		final boolean asciiOnly = profile.getGrammar() != NumberFormatProfile.Grammar.LENIENT;
+
+		if (profile.getGrammar() == NumberFormatProfile.Grammar.JSON && i + 1 < length && string.charAt(i) == LATIN_0) {
+			return result.fail(Status.INVALID_CHAR, i + 1);
+		}
+
+		// see parseSigned(CharSequence, int, int, int, long, NumberParseResult)
+		final long limit = negative ? -maxValue - 1 : -maxValue;
+		final long multiplicationLimit = limit / 10;
+		boolean digitSeen = false;
+		int digit;
+		long value = 0;
+
+		while (i < length) {
+
+			char c = string.charAt(i);
+
+			if (c >= LATIN_0 && c <= LATIN_9) {
+				digit = c - LATIN_0;
+
+			} else if (digitSeen && i + 1 < length && profile.isGroupingSeparator(c)
+					&& UnicodeDigits.digit(string.charAt(i + 1)) >= 0) {
+				// a grouping separator between two digits
+				i++;
+				continue;
+
+			} else {
+				digit = asciiOnly ? -1 : UnicodeDigits.digit(c);
+
+				if (digit < 0) {
+					return result.fail(Status.INVALID_CHAR, i);
+				}
+			}
+
+			if (value < multiplicationLimit) {
+				return result.fail(Status.OVERFLOW, i);
+			}
+			value *= 10;
+
+			if (value < limit + digit) {
+				return result.fail(Status.OVERFLOW, i);
+			}
+
+			value -= digit;
+			digitSeen = true;
+			i++;
+		}
+
+		if (!digitSeen) {
+			// just a '+' or '-' is not a valid number
+			return result.fail(Status.INVALID_CHAR, signIndex);
+		}
+		return result.ok(negative ? value : -value, end);
+	}
+
+	/*
+	 * Byte oriented parsing of ASCII or UTF-8 encoded numbers, see ByteCharSequence.
+	 */
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a
+	 * positive decimal integer like {@link #parsePositiveInt(String)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the positive integer value or <code>-1</code> if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static int parsePositiveInt(byte[] src, int start, int end) {
+		return (int) valueOf(src, start, end, POSITIVE_INT);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a
+	 * positive decimal integer like {@link #parsePositiveInt(String)}, without decoding the bytes into a {@code String}
+	 * (indices are absolute, the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the positive integer value or <code>-1</code> if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static int parsePositiveInt(ByteBuffer src, int start, int end) {
+		return (int) valueOf(src, start, end, POSITIVE_INT);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a
+	 * positive decimal long like {@link #parsePositiveLong(String)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the positive long value or <code>-1</code> if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static long parsePositiveLong(byte[] src, int start, int end) {
+		return valueOf(src, start, end, POSITIVE_LONG);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a
+	 * positive decimal long like {@link #parsePositiveLong(String)}, without decoding the bytes into a {@code String}
+	 * (indices are absolute, the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the positive long value or <code>-1</code> if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static long parsePositiveLong(ByteBuffer src, int start, int end) {
+		return valueOf(src, start, end, POSITIVE_LONG);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a double
+	 * like {@link #parseDouble(String)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the <tt>double</tt> value or {@link Double#NaN} if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static double parseDouble(byte[] src, int start, int end) {
+		return Double.longBitsToDouble(valueOf(src, start, end, DOUBLE_BITS));
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a
+	 * double like {@link #parseDouble(String)}, without decoding the bytes into a {@code String} (indices are absolute,
+	 * the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the <tt>double</tt> value or {@link Double#NaN} if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static double parseDouble(ByteBuffer src, int start, int end) {
+		return Double.longBitsToDouble(valueOf(src, start, end, DOUBLE_BITS));
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a float
+	 * like {@link #parseFloat(String)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the <tt>float</tt> value or {@link Float#NaN} if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static float parseFloat(byte[] src, int start, int end) {
+		return Float.intBitsToFloat((int) valueOf(src, start, end, FLOAT_BITS));
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a float
+	 * like {@link #parseFloat(String)}, without decoding the bytes into a {@code String} (indices are absolute, the
+	 * position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @return the <tt>float</tt> value or {@link Float#NaN} if the range does not contain a valid number or
+	 *         <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static float parseFloat(ByteBuffer src, int start, int end) {
+		return Float.intBitsToFloat((int) valueOf(src, start, end, FLOAT_BITS));
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a signed
+	 * decimal integer like {@link #parseInt(String, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain an integer, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains an integer, see {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseInt(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, SIGNED, Integer.MAX_VALUE, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a
+	 * signed decimal integer like {@link #parseInt(String, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String} (indices are absolute, the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain an integer, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains an integer, see {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static boolean parseInt(ByteBuffer src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, SIGNED, Integer.MAX_VALUE, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a signed
+	 * decimal long like {@link #parseLong(String, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a long, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a long, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseLong(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, SIGNED, Long.MAX_VALUE, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a
+	 * signed decimal long like {@link #parseLong(String, NumberParseResult)}, without decoding the bytes into a
+	 * {@code String} (indices are absolute, the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a long, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a long, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static boolean parseLong(ByteBuffer src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, SIGNED, Long.MAX_VALUE, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a double
+	 * like {@link #parseDouble(String, NumberParseResult)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a double, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDouble(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, DOUBLE, 0, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a
+	 * double like {@link #parseDouble(String, NumberParseResult)}, without decoding the bytes into a {@code String}
+	 * (indices are absolute, the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a double, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDouble(ByteBuffer src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, DOUBLE, 0, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a float
+	 * like {@link #parseFloat(String, NumberParseResult)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a float, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a float, see {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloat(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, FLOAT, 0, null, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte buffer as a float
+	 * like {@link #parseFloat(String, NumberParseResult)}, without decoding the bytes into a {@code String} (indices
+	 * are absolute, the position of the buffer is ignored).
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a float, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a float, see {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within 0 and the limit of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloat(ByteBuffer src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, FLOAT, 0, null, result);
+	}
+
+	/**
+	 * Parses the longest signed decimal integer at the index <code>start</code> of a given {@code CharSequence}, e.g.
+	 * the "42" of "42,17". The integer consists of an optional '+' or '-' sign and decimal digits, without any spaces.
+	 *
+	 * @param src the {@code CharSequence} which contains the integer
+	 * @param start index of the first character of the integer, i.e. of the sign or the first digit
+	 * @param end index after the last character which may be part of the integer
+	 * @param result receives the value and the index after the integer, see {@link NumberParseResult#getIndex()}, or
+	 *        the reason why there is no integer at <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is an integer at <code>start</code>, see
+	 *         {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseIntPrefix(CharSequence src, int start, int end, NumberParseResult result) {
+		return parseSignedPrefix(src, start, end, Integer.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses the longest signed decimal long at the index <code>start</code> of a given {@code CharSequence}, see
+	 * {@link #parseIntPrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the {@code CharSequence} which contains the long
+	 * @param start index of the first character of the long, i.e. of the sign or the first digit
+	 * @param end index after the last character which may be part of the long
+	 * @param result receives the value and the index after the long, see {@link NumberParseResult#getIndex()}, or the
+	 *        reason why there is no long at <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a long at <code>start</code>, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseLongPrefix(CharSequence src, int start, int end, NumberParseResult result) {
+		return parseSignedPrefix(src, start, end, Long.MAX_VALUE, result);
+	}
+
+	/**
+	 * Parses the longest floating point number at the index <code>start</code> of a given {@code CharSequence}, e.g.
+	 * the "1.5e3" of "1.5e3]". The number is the longest sequence of characters which is accepted by
+	 * {@link #parseDouble(String, NumberParseResult)}, but whitespace is never skipped. Both, '.' and ',' are decimal
+	 * marks, thus a tokenizer of a language which separates numbers by ',' should pass a profile with '.' as the only
+	 * decimal mark, see {@link #parseDoublePrefix(CharSequence, int, int, NumberFormatProfile, NumberParseResult)}.
+	 *
+	 * @param src the {@code CharSequence} which contains the number
+	 * @param start index of the first character of the number
+	 * @param end index after the last character which may be part of the number
+	 * @param result receives the value and the index after the number, see {@link NumberParseResult#getIndex()}, or the
+	 *        reason why there is no number at <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDoublePrefix(CharSequence src, int start, int end, NumberParseResult result) {
+		return parseFloatingPointPrefix(src, start, end, false, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the longest floating point number in the format of a given profile at the index <code>start</code> of a
+	 * given {@code CharSequence}, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}. The
+	 * whitespace policy of the profile is ignored.
+	 *
+	 * @param src the {@code CharSequence} which contains the number
+	 * @param start index of the first character of the number
+	 * @param end index after the last character which may be part of the number
+	 * @param profile the decimal marks, grouping separators and signs of the format
+	 * @param result receives the value and the index after the number, see {@link NumberParseResult#getIndex()}, or the
+	 *        reason why there is no number at <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDoublePrefix(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parseFloatingPointPrefix(src, start, end, false, profile, result);
+	}
+
+	/**
+	 * Parses the longest floating point number at the index <code>start</code> of a given {@code CharSequence} as a
+	 * float, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the {@code CharSequence} which contains the number
+	 * @param start index of the first character of the number
+	 * @param end index after the last character which may be part of the number
+	 * @param result receives the value and the index after the number, see {@link NumberParseResult#getIndex()}, or the
+	 *        reason why there is no number at <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloatPrefix(CharSequence src, int start, int end, NumberParseResult result) {
+		return parseFloatingPointPrefix(src, start, end, true, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the longest floating point number in the format of a given profile at the index <code>start</code> of a
+	 * given {@code CharSequence} as a float, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+	 * The whitespace policy of the profile is ignored.
+	 *
+	 * @param src the {@code CharSequence} which contains the number
+	 * @param start index of the first character of the number
+	 * @param end index after the last character which may be part of the number
+	 * @param profile the decimal marks, grouping separators and signs of the format
+	 * @param result receives the value and the index after the number, see {@link NumberParseResult#getIndex()}, or the
+	 *        reason why there is no number at <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloatPrefix(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parseFloatingPointPrefix(src, start, end, true, profile, result);
+	}
+
+	/**
+	 * Parses the longest signed decimal integer at the index <code>start</code> of a given ASCII or UTF-8 encoded byte
+	 * array, see {@link #parseIntPrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes which contain the integer
+	 * @param start index of the first byte of the integer
+	 * @param end index after the last byte which may be part of the integer
+	 * @param result receives the value and the index after the integer or the reason why there is no integer at
+	 *        <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is an integer at <code>start</code>, see
+	 *         {@link NumberParseResult#getIntValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseIntPrefix(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, SIGNED_PREFIX, Integer.MAX_VALUE, null, result);
+	}
+
+	/**
+	 * Parses the longest signed decimal long at the index <code>start</code> of a given ASCII or UTF-8 encoded byte
+	 * array, see {@link #parseIntPrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes which contain the long
+	 * @param start index of the first byte of the long
+	 * @param end index after the last byte which may be part of the long
+	 * @param result receives the value and the index after the long or the reason why there is no long at
+	 *        <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a long at <code>start</code>, see {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseLongPrefix(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, SIGNED_PREFIX, Long.MAX_VALUE, null, result);
+	}
+
+	/**
+	 * Parses the longest floating point number at the index <code>start</code> of a given ASCII or UTF-8 encoded byte
+	 * array, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes which contain the number
+	 * @param start index of the first byte of the number
+	 * @param end index after the last byte which may be part of the number
+	 * @param result receives the value and the index after the number or the reason why there is no number at
+	 *        <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDoublePrefix(byte[] src, int start, int end, NumberParseResult result) {
+		return parseDoublePrefix(src, start, end, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the longest floating point number at the index <code>start</code> of a given ASCII or UTF-8 encoded byte
+	 * array, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes which contain the number
+	 * @param start index of the first byte of the number
+	 * @param end index after the last byte which may be part of the number
+	 * @param profile the decimal marks, grouping separators and signs of the format
+	 * @param result receives the value and the index after the number or the reason why there is no number at
+	 *        <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDoublePrefix(byte[] src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parse(src, start, end, DOUBLE_PREFIX, 0, profile, result);
+	}
+
+	/**
+	 * Parses the longest floating point number at the index <code>start</code> of a given ASCII or UTF-8 encoded byte
+	 * array as a float, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes which contain the number
+	 * @param start index of the first byte of the number
+	 * @param end index after the last byte which may be part of the number
+	 * @param result receives the value and the index after the number or the reason why there is no number at
+	 *        <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloatPrefix(byte[] src, int start, int end, NumberParseResult result) {
+		return parseFloatPrefix(src, start, end, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the longest floating point number at the index <code>start</code> of a given ASCII or UTF-8 encoded byte
+	 * array as a float, see {@link #parseDoublePrefix(CharSequence, int, int, NumberParseResult)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes which contain the number
+	 * @param start index of the first byte of the number
+	 * @param end index after the last byte which may be part of the number
+	 * @param profile the decimal marks, grouping separators and signs of the format
+	 * @param result receives the value and the index after the number or the reason why there is no number at
+	 *        <code>start</code>, all indices refer to <code>src</code>
+	 * @return <code>true</code> if there is a number at <code>start</code>, see
+	 *         {@link NumberParseResult#getFloatValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseFloatPrefix(byte[] src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parse(src, start, end, FLOAT_PREFIX, 0, profile, result);
+	}
+
+	/**
+	 * Parses a given string as a decimal fixed point number with <code>scale</code> fraction digits and returns its
+	 * unscaled value, e.g. 1250 for "12.5" or "1.25e1" with a scale of 2. The string is parsed like
+	 * {@link #parseDouble(String, NumberParseResult)}, '.' and ',' are decimal marks and an exponent is allowed, but
+	 * "NaN", "Infinity", hexadecimal numbers and a type suffix like in "12.5f" are invalid. The value is never rounded:
+	 * <ul>
+	 * <li>{@link Status#OVERFLOW} is reported if the unscaled value is out of the range of a long,</li>
+	 * <li>{@link Status#INEXACT} is reported if the number has a nonzero digit after the last fraction digit of the
+	 * scale, e.g. "12.505" with a scale of 2.</li>
+	 * </ul>
+	 *
+	 * @param string the string to be parsed
+	 * @param scale the number of fraction digits of the unscaled value, e.g. 8 for a value in units of 10^-8, may be
+	 *        negative
+	 * @param result receives the unscaled value or the reason why the string does not contain a number of the given
+	 *        scale
+	 * @return <code>true</code> if the string contains a number of the given scale, see
+	 *         {@link NumberParseResult#getLongValue()}
+	 */
+	public static boolean parseScaledLong(String string, int scale, NumberParseResult result) {
+		return parseScaledLong(string, 0, (string == null) ? 0 : string.length(), scale, NumberFormatProfile.DEFAULT,
+				result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} as a decimal fixed point number like
+	 * {@link #parseScaledLong(String, int, NumberParseResult)}.
+	 *
+	 * @param src the {@code CharSequence} to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param scale the number of fraction digits of the unscaled value, may be negative
+	 * @param result receives the unscaled value or the reason why the range does not contain a number of the given
+	 *        scale, all indices refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a number of the given scale, see
+	 *         {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseScaledLong(CharSequence src, int start, int end, int scale, NumberParseResult result) {
+		return parseScaledLong(src, start, end, scale, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} in the format of a given profile as a decimal fixed point number like
+	 * {@link #parseScaledLong(String, int, NumberParseResult)}, e.g. "1.234,56" with
+	 * {@link NumberFormatProfile#GERMAN}.
+	 *
+	 * @param src the {@code CharSequence} to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param scale the number of fraction digits of the unscaled value, may be negative
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the unscaled value or the reason why the range does not contain a number of the given
+	 *        scale, all indices refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a number of the given scale, see
+	 *         {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseScaledLong(CharSequence src, int start, int end, int scale, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		result.reset(start);
+
+		if (src == null) {
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.length(), start, end);
+
+		if (start == end || (profile.isTrimmed() && isBlank(src, start, end))) {
+			return result.fail(Status.EMPTY, end);
+		}
+
+		final long value = FloatingDecimal.parseScaledLong(src, start, end, scale, profile.syntax(), result);
+
+		if (result.getErrorIndex() < 0) {
+			return result.ok(value, end);
+		}
+
+		final Status status = (value == FloatingDecimal.SCALED_OVERFLOW) ? Status.OVERFLOW
+				: (value == FloatingDecimal.SCALED_INEXACT) ? Status.INEXACT : Status.INVALID_CHAR;
+		return result.fail(status, result.getErrorIndex());
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a
+	 * decimal fixed point number like {@link #parseScaledLong(String, int, NumberParseResult)}, without decoding the
+	 * bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param scale the number of fraction digits of the unscaled value, may be negative
+	 * @param result receives the unscaled value or the reason why the range does not contain a number of the given
+	 *        scale, all indices refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a number of the given scale, see
+	 *         {@link NumberParseResult#getLongValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseScaledLong(byte[] src, int start, int end, int scale, NumberParseResult result) {
+		return parse(src, start, end, SCALED, scale, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses a given string as a signed decimal integer of any length, with the grammar of
+	 * {@link #parseLong(String, NumberParseResult)}.
+	 *
+	 * @param string the string to be parsed
+	 * @return the value or <code>null</code> if the string does not contain a valid integer
+	 */
+	public static BigInteger parseBigInteger(String string) {
+		return parseBigInteger(string, 0, (string == null) ? 0 : string.length(), new NumberParseResult());
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} as a signed decimal integer of any length, with the grammar of
+	 * {@link #parseLong(CharSequence, int, int, NumberParseResult)}. Long numbers are converted in chunks of 18 digits,
+	 * which are combined with a sub-quadratic number of operations.
+	 *
+	 * @param src the {@code CharSequence} to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the status of the call or the reason why the range does not contain an integer, all
+	 *        indices refer to <code>src</code>
+	 * @return the value or <code>null</code> if the range does not contain a valid integer
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static BigInteger parseBigInteger(CharSequence src, int start, int end, NumberParseResult result) {
+
+		if (src != null) {
+			checkRange(src.length(), start, end);
+		}
+		return BigNumberParser.parseBigInteger(src, start, end, result);
+	}
+
+	/**
+	 * Parses a given string as a decimal number of any length and precision, with the grammar of
+	 * {@link #parseDouble(String, NumberParseResult)} except "NaN", "Infinity", hexadecimal numbers and a type suffix.
+	 * Like {@link BigDecimal#BigDecimal(String)} the scale of the result is the number of fraction digits minus the
+	 * exponent, e.g. "1.50" has a scale of 2 and "15e1" a scale of -1.
+	 *
+	 * @param string the string to be parsed
+	 * @return the value or <code>null</code> if the string does not contain a valid decimal number
+	 */
+	public static BigDecimal parseBigDecimal(String string) {
+		return parseBigDecimal(string, 0, (string == null) ? 0 : string.length(), new NumberParseResult());
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} as a decimal number of any length and precision like {@link #parseBigDecimal(String)}.
+	 * {@link Status#OVERFLOW} is reported if the scale is out of the range of an int.
+	 *
+	 * @param src the {@code CharSequence} to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the status of the call or the reason why the range does not contain a decimal number, all
+	 *        indices refer to <code>src</code>
+	 * @return the value or <code>null</code> if the range does not contain a valid decimal number
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static BigDecimal parseBigDecimal(CharSequence src, int start, int end, NumberParseResult result) {
+
+		if (src != null) {
+			checkRange(src.length(), start, end);
+		}
+		return BigNumberParser.parseBigDecimal(src, start, end, result);
+	}
+
+	/**
+	 * Parses a given string as a double like {@link #parseDouble(String)}, but without the guarantee that the result is
+	 * the double nearest to the decimal value.
+	 *
+	 * <p>
+	 * The result differs from the result of {@link #parseDouble(String)} by at most one ulp (unit in the last place):
+	 * it is either the correctly rounded double or, if the decimal value is very close to the midpoint between two
+	 * doubles, the other of the two doubles. Values which are computed exactly by {@link #parseDouble(String)} with a
+	 * single floating point operation, e.g. all values with up to 15 digits and an exponent of at most 22, are the
+	 * same. Only the first 19 digits are taken into account.
+	 * </p>
+	 *
+	 * @param string the string to be parsed
+	 * @return the approximate value represented by the string or {@link Double#NaN} if the string does not contain a
+	 *         valid representation of a floating decimal or is <code>null</code>
+	 */
+	public static double parseDoubleApproximate(String string) {
+
+		if (string == null) {
+			return Double.NaN;
+		}
+		return FloatingDecimal.parseDoubleApproximate(string, 0, string.length(), null);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a double with an error of up to one ulp, see {@link #parseDoubleApproximate(String)}.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @return the approximate value represented by the range or {@link Double#NaN} if the range does not contain a
+	 *         valid representation of a floating decimal or <code>src</code> is <code>null</code>
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static double parseDoubleApproximate(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return Double.NaN;
+		}
+		checkRange(src.length(), start, end);
+		return FloatingDecimal.parseDoubleApproximate(src, start, end, null);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a double with an error of up to one ulp, see {@link #parseDoubleApproximate(String)}.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the value or the reason why the range does not contain a double, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDoubleApproximate(CharSequence src, int start, int end, NumberParseResult result) {
+
+		result.reset(start);
+
+		if (src == null) {
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.length(), start, end);
+
+		if (start == end || isBlank(src, start, end)) {
+			return result.fail(Status.EMPTY, end);
+		}
+
+		double value = FloatingDecimal.parseDoubleApproximate(src, start, end, result);
+
+		if (result.getErrorIndex() >= 0) {
+			return result.fail(Status.INVALID_CHAR, result.getErrorIndex());
+		}
+		return result.ok(value, end);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a double
+	 * with an error of up to one ulp, see {@link #parseDoubleApproximate(String)}, without decoding the bytes into a
+	 * {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a double, all indices refer to
+	 *        <code>src</code>
+	 * @return <code>true</code> if the range contains a double, see {@link NumberParseResult#getDoubleValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseDoubleApproximate(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, APPROXIMATE, 0, null, result);
+	}
+
+	/**
+	 * Parses a given string like {@link #parseDouble(String)} and returns the IEEE 754 binary16 (half precision)
+	 * encoding of the nearest value, e.g. <code>0x3E00</code> for "1.5".
+	 *
+	 * <p>
+	 * The value is rounded once, directly from the decimal digits, ties to even. Values of at least 65520 are rounded
+	 * to infinity (<code>0x7C00</code>), values of at most 2<sup>-25</sup> to zero.
+	 * </p>
+	 *
+	 * @param string the string to be parsed
+	 * @return the binary16 encoding of the value represented by the string or the quiet NaN <code>0x7E00</code> if the
+	 *         string does not contain a valid representation of a floating decimal or is <code>null</code>
+	 */
+	public static short parseHalf(String string) {
+
+		if (string == null) {
+			return FloatingDecimal.HALF_NAN;
+		}
+		return FloatingDecimal.parseHalf(string, 0, string.length(), NumberSyntax.DEFAULT, null);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a binary16 value, see {@link #parseHalf(String)}.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the value or the reason why the range does not contain a floating decimal, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a floating decimal, see {@link NumberParseResult#getShortValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseHalf(CharSequence src, int start, int end, NumberParseResult result) {
+		return parseBinary16(src, start, end, false, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence in the format of a given profile as a binary16 value, see {@link #parseHalf(String)}.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the range does not contain a floating decimal, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a floating decimal, see {@link NumberParseResult#getShortValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseHalf(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parseBinary16(src, start, end, false, profile, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a
+	 * binary16 value, see {@link #parseHalf(String)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a floating decimal, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a floating decimal, see {@link NumberParseResult#getShortValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseHalf(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, HALF, 0, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses a given string like {@link #parseDouble(String)} and returns the bfloat16 encoding of the nearest value,
+	 * i.e. the upper 16 bits of a {@code float} with a significand of 8 bits, e.g. <code>0x3FC0</code> for "1.5".
+	 *
+	 * <p>
+	 * The value is rounded once, directly from the decimal digits, ties to even, and not by truncating or rounding the
+	 * nearest {@code float}.
+	 * </p>
+	 *
+	 * @param string the string to be parsed
+	 * @return the bfloat16 encoding of the value represented by the string or the quiet NaN <code>0x7FC0</code> if the
+	 *         string does not contain a valid representation of a floating decimal or is <code>null</code>
+	 */
+	public static short parseBFloat16(String string) {
+
+		if (string == null) {
+			return FloatingDecimal.BFLOAT16_NAN;
+		}
+		return FloatingDecimal.parseBFloat16(string, 0, string.length(), NumberSyntax.DEFAULT, null);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence as a bfloat16 value, see {@link #parseBFloat16(String)}.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param result receives the value or the reason why the range does not contain a floating decimal, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a floating decimal, see {@link NumberParseResult#getShortValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseBFloat16(CharSequence src, int start, int end, NumberParseResult result) {
+		return parseBinary16(src, start, end, true, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Parses the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given character
+	 * sequence in the format of a given profile as a bfloat16 value, see {@link #parseBFloat16(String)}.
+	 *
+	 * @param src the character sequence to be parsed
+	 * @param start index of the first character to be parsed
+	 * @param end index after the last character to be parsed
+	 * @param profile the decimal marks, grouping separators, signs and whitespace handling of the format
+	 * @param result receives the value or the reason why the range does not contain a floating decimal, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a floating decimal, see {@link NumberParseResult#getShortValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseBFloat16(CharSequence src, int start, int end, NumberFormatProfile profile,
+			NumberParseResult result) {
+		return parseBinary16(src, start, end, true, profile, result);
+	}
+
+	/**
+	 * Parses the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given byte array as a
+	 * bfloat16 value, see {@link #parseBFloat16(String)}, without decoding the bytes into a {@code String}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be parsed
+	 * @param start index of the first byte to be parsed
+	 * @param end index after the last byte to be parsed
+	 * @param result receives the value or the reason why the range does not contain a floating decimal, all indices
+	 *        refer to <code>src</code>
+	 * @return <code>true</code> if the range contains a floating decimal, see {@link NumberParseResult#getShortValue()}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean parseBFloat16(byte[] src, int start, int end, NumberParseResult result) {
+		return parse(src, start, end, BFLOAT16, 0, NumberFormatProfile.DEFAULT, result);
+	}
+
+	/**
+	 * Checks whether a given string would be parsed by {@link #parseInt(String, NumberParseResult)}, without converting
+	 * it.
+	 *
+	 * @param string the string to be checked, may be <code>null</code>
+	 * @return <code>true</code> if the string contains a signed decimal integer
+	 */
+	public static boolean isValidInt(CharSequence string) {
+		return classifyInteger(string, 0, (string == null) ? 0 : string.length()) == NumberType.INT;
+	}
+
+	/**
+	 * Checks whether the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} would be parsed by {@link #parseInt(CharSequence, int, int, NumberParseResult)}, without
+	 * converting them.
+	 *
+	 * @param src the {@code CharSequence} to be checked
+	 * @param start index of the first character to be checked
+	 * @param end index after the last character to be checked
+	 * @return <code>true</code> if the range contains a signed decimal integer
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean isValidInt(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return false;
+		}
+		checkRange(src.length(), start, end);
+		return classifyInteger(src, start, end) == NumberType.INT;
+	}
+
+	/**
+	 * Checks whether a given string would be parsed by {@link #parseLong(String, NumberParseResult)}, without
+	 * converting it.
+	 *
+	 * @param string the string to be checked, may be <code>null</code>
+	 * @return <code>true</code> if the string contains a signed decimal long
+	 */
+	public static boolean isValidLong(CharSequence string) {
+		return classifyInteger(string, 0, (string == null) ? 0 : string.length()) != NumberType.NOT_A_NUMBER;
+	}
+
+	/**
+	 * Checks whether the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} would be parsed by {@link #parseLong(CharSequence, int, int, NumberParseResult)}, without
+	 * converting them.
+	 *
+	 * @param src the {@code CharSequence} to be checked
+	 * @param start index of the first character to be checked
+	 * @param end index after the last character to be checked
+	 * @return <code>true</code> if the range contains a signed decimal long
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean isValidLong(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return false;
+		}
+		checkRange(src.length(), start, end);
+		return classifyInteger(src, start, end) != NumberType.NOT_A_NUMBER;
+	}
+
+	/**
+	 * Checks whether a given string would be parsed by {@link #parseDouble(String, NumberParseResult)}, without
+	 * converting it.
+	 *
+	 * @param string the string to be checked, may be <code>null</code>
+	 * @return <code>true</code> if the string contains a floating point number
+	 */
+	public static boolean isValidDouble(CharSequence string) {
+		return string != null && FloatingDecimal.isValidJavaFormatString(string, 0, string.length(),
+				NumberSyntax.DEFAULT);
+	}
+
+	/**
+	 * Checks whether the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a given
+	 * {@code CharSequence} would be parsed by {@link #parseDouble(CharSequence, int, int, NumberParseResult)}, without
+	 * converting them.
+	 *
+	 * @param src the {@code CharSequence} to be checked
+	 * @param start index of the first character to be checked
+	 * @param end index after the last character to be checked
+	 * @return <code>true</code> if the range contains a floating point number
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static boolean isValidDouble(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return false;
+		}
+		checkRange(src.length(), start, end);
+		return FloatingDecimal.isValidJavaFormatString(src, start, end, NumberSyntax.DEFAULT);
+	}
+
+	/**
+	 * Determines the narrowest type of a given string without converting it: {@link NumberType#INT} if the string would
+	 * be parsed by {@link #parseInt(String, NumberParseResult)}, otherwise {@link NumberType#LONG} if it would be
+	 * parsed by {@link #parseLong(String, NumberParseResult)}, otherwise {@link NumberType#DOUBLE} if it would be
+	 * parsed by {@link #parseDouble(String, NumberParseResult)}, e.g. "1.5", "1e3" or an integer out of the range of a
+	 * long.
+	 *
+	 * @param string the string to be classified, may be <code>null</code>
+	 * @return the narrowest type or {@link NumberType#NOT_A_NUMBER}
+	 */
+	public static NumberType classify(CharSequence string) {
+
+		if (string == null) {
+			return NumberType.NOT_A_NUMBER;
+		}
+		return classifyRange(string, 0, string.length());
+	}
+
+	/**
+	 * Determines the narrowest type of the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of
+	 * a given {@code CharSequence} without converting them, see {@link #classify(CharSequence)}.
+	 *
+	 * @param src the {@code CharSequence} to be classified
+	 * @param start index of the first character to be classified
+	 * @param end index after the last character to be classified
+	 * @return the narrowest type or {@link NumberType#NOT_A_NUMBER}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static NumberType classify(CharSequence src, int start, int end) {
+
+		if (src == null) {
+			return NumberType.NOT_A_NUMBER;
+		}
+		checkRange(src.length(), start, end);
+		return classifyRange(src, start, end);
+	}
+
+	/**
+	 * Determines the narrowest type of the bytes <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+	 * given byte array without decoding or converting them, see {@link #classify(CharSequence)}.
+	 *
+	 * @param src the ASCII or UTF-8 encoded bytes to be classified
+	 * @param start index of the first byte to be classified
+	 * @param end index after the last byte to be classified
+	 * @return the narrowest type or {@link NumberType#NOT_A_NUMBER}
+	 * @throws IndexOutOfBoundsException if <code>start</code> or <code>end</code> are not within the bounds of
+	 *         <code>src</code>
+	 */
+	public static NumberType classify(byte[] src, int start, int end) {
+		return NUMBER_TYPES[(int) valueOf(src, start, end, TYPE_ORDINAL)];
+	}
+
+	/**
+	 * Parses a range of a byte array with one of the parsers of the byte overloads, e.g. {@link #SIGNED}, through the
+	 * view of the current thread, which is released afterwards so that the array does not stay reachable.
+	 */
+	private static boolean parse(byte[] src, int start, int end, int parser, long arg, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		if (src == null) {
+			result.reset(start);
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.length, start, end);
+		final ByteCharSequence bytes = ByteCharSequence.ofThread(src);
+
+		try {
+			return parse(bytes, start, end, parser, arg, profile, result);
+		} finally {
+			bytes.release();
+		}
+	}
+
+	/**
+	 * Parses a range of a byte buffer, see {@link #parse(byte[], int, int, int, long, NumberFormatProfile,
+	 * NumberParseResult)}. The indices are absolute and limited by the limit of the buffer.
+	 */
+	private static boolean parse(ByteBuffer src, int start, int end, int parser, long arg, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		if (src == null) {
+			result.reset(start);
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.limit(), start, end);
+		final ByteCharSequence bytes = ByteCharSequence.ofThread(src);
+
+		try {
+			return parse(bytes, start, end, parser, arg, profile, result);
+		} finally {
+			bytes.release();
+		}
+	}
+
+	/**
+	 * Parses a range of bytes with a given parser. <code>arg</code> is the maximum value of an integer or the scale of
+	 * a fixed point number, without a profile integers and floating point numbers are parsed by the default grammar.
+	 */
+	private static boolean parse(ByteCharSequence bytes, int start, int end, int parser, long arg,
+			NumberFormatProfile profile, NumberParseResult result) {
+
+		switch (parser) {
+			case SIGNED:
+				return (profile == null) ? parseSigned(bytes, start, end, arg, result)
+						: parseSigned(bytes, start, end, arg, profile, result);
+			case SIGNED_PREFIX:
+				return parseSignedPrefix(bytes, start, end, arg, profile, result);
+			case DOUBLE:
+			case FLOAT:
+				return (profile == null) ? parseFloatingPoint(bytes, start, end, parser == FLOAT, result)
+						: parseFloatingPoint(bytes, start, end, parser == FLOAT, profile, result);
+			case DOUBLE_PREFIX:
+			case FLOAT_PREFIX:
+				return parseFloatingPointPrefix(bytes, start, end, parser == FLOAT_PREFIX, profile, result);
+			case SCALED:
+				return parseScaledLong(bytes, start, end, (int) arg, profile, result);
+			case APPROXIMATE:
+				return parseDoubleApproximate(bytes, start, end, result);
+			default:
+				return parseBinary16(bytes, start, end, parser == BFLOAT16, profile, result);
+		}
+	}
+
+	/**
+	 * Parses a range of a byte array with one of the parsers of the byte overloads which return the value instead of a
+	 * result, e.g. {@link #POSITIVE_INT}, see {@link #valueOf(ByteCharSequence, int, int, int)}.
+	 */
+	private static long valueOf(byte[] src, int start, int end, int parser) {
+
+		if (src == null) {
+			return noValue(parser);
+		}
+		checkRange(src.length, start, end);
+		final ByteCharSequence bytes = ByteCharSequence.ofThread(src);
+
+		try {
+			return valueOf(bytes, start, end, parser);
+		} finally {
+			bytes.release();
+		}
+	}
+
+	/**
+	 * Parses a range of a byte buffer, see {@link #valueOf(byte[], int, int, int)}.
+	 */
+	private static long valueOf(ByteBuffer src, int start, int end, int parser) {
+
+		if (src == null) {
+			return noValue(parser);
+		}
+		checkRange(src.limit(), start, end);
+		final ByteCharSequence bytes = ByteCharSequence.ofThread(src);
+
+		try {
+			return valueOf(bytes, start, end, parser);
+		} finally {
+			bytes.release();
+		}
+	}
+
+	/**
+	 * Parses a range of bytes with a given parser and returns the value, the bits of a floating point number or the
+	 * ordinal of a {@link NumberType}.
+	 */
+	private static long valueOf(ByteCharSequence bytes, int start, int end, int parser) {
+
+		switch (parser) {
+			case POSITIVE_INT:
+				return parsePositiveInt(bytes, start, end);
+			case POSITIVE_LONG:
+				return parsePositiveLong(bytes, start, end);
+			case DOUBLE_BITS:
+				return Double.doubleToRawLongBits(FloatingDecimal.parseDouble(bytes, start, end, null));
+			case FLOAT_BITS:
+				return Float.floatToRawIntBits(FloatingDecimal.parseFloat(bytes, start, end, null));
+			default:
+				return classifyRange(bytes, start, end).ordinal();
+		}
+	}
+
+	/**
+	 * The value of a parser for a missing source.
+	 */
+	private static long noValue(int parser) {
+
+		switch (parser) {
+			case POSITIVE_INT:
+				return NO_POSITIVE_INT;
+			case POSITIVE_LONG:
+				return NO_POSITIVE_LONG;
+			case DOUBLE_BITS:
+				return Double.doubleToRawLongBits(Double.NaN);
+			case FLOAT_BITS:
+				return Float.floatToRawIntBits(Float.NaN);
+			default:
+				return NumberType.NOT_A_NUMBER.ordinal();
+		}
+	}
+
+	/**
+	 * Fast path for byte sources: an optional '+' followed by only ASCII digits is converted eight digits at a time,
+	 * see {@link ByteCharSequence#digits(int, int)}. Any other input is parsed by the general integer parser.
+	 */
+	private static int parsePositiveInt(ByteCharSequence bytes, int start, int end) {
+
+		long value = bytes.digits(skipPlusSign(bytes, start, end), end);
+
+		if (value >= 0) {
+			return value <= Integer.MAX_VALUE ? (int) value : NO_POSITIVE_INT;
+		}
+		return parsePositiveInt(bytes, start, end, 10);
+	}
+
+	/**
+	 * Fast path for byte sources, see {@link #parsePositiveInt(ByteCharSequence, int, int)}.
+	 */
+	private static long parsePositiveLong(ByteCharSequence bytes, int start, int end) {
+
+		long value = bytes.digits(skipPlusSign(bytes, start, end), end);
+
+		if (value >= 0) {
+			return value;
+		}
+		return parsePositiveLong(bytes, start, end, 10);
+	}
+
+	private static int skipPlusSign(ByteCharSequence bytes, int start, int end) {
+		return (start < end && bytes.charAt(start) == '+') ? start + 1 : start;
+	}
+
+	/**
+	 * Fast path for byte sources: an optional sign followed by only ASCII digits is converted eight digits at a time,
+	 * see {@link ByteCharSequence#digits(int, int)}. Any other input, including values out of range, is parsed by the
+	 * general integer parser, which determines the exact error index.
+	 */
+	static boolean parseSigned(ByteCharSequence bytes, int start, int end, long maxValue, NumberParseResult result) {
+
+		int i = start;
+		boolean negative = false;
+
+		if (i < end) {
+			char potentialSign = bytes.charAt(i);
+
+			if (potentialSign == '-') {
+				negative = true;
+				i++;
+
+			} else if (potentialSign == '+') {
+				i++;
+			}
+		}
+
+		long value = bytes.digits(i, end);
+
+		if (value >= 0 && (negative ? value - 1 : value) <= maxValue) {
+			result.reset(start);
+			return result.ok(negative ? -value : value, end);
+		}
+		return parseSigned(bytes, start, end, 10, maxValue, result);
+	}
+
+	/**
+	 * Parses the longest signed decimal integer at <code>start</code>, with the digits of
+	 * {@link #parseSigned(CharSequence, int, int, int, long, NumberParseResult)} but without spaces.
+	 */
+	private static boolean parseSignedPrefix(CharSequence src, int start, int end, long maxValue,
+			NumberParseResult result) {
+
+		result.reset(start);
+
+		if (src == null) {
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.length(), start, end);
+		return parseSignedPrefix(src, start, end, maxValue, null, result);
+	}
+
+	/**
+	 * Parses the longest signed decimal integer at <code>start</code> without whitespace. Without a profile the digits
+	 * are the ones of {@link #parseSigned(CharSequence, int, int, int, long, NumberParseResult)}, with a profile the
+	 * signs, digits and grouping separators are the ones of
+	 * {@link #parseSigned(CharSequence, int, int, long, NumberFormatProfile, NumberParseResult)}.
+	 *
+	 * @param profile the format of the integer or <code>null</code>
+	 */
+	static boolean parseSignedPrefix(CharSequence src, int start, int end, long maxValue, NumberFormatProfile profile,
+			NumberParseResult result) {
+
+		result.reset(start);
+
+		if (start == end) {
+			return result.fail(Status.EMPTY, start);
+		}
+
+		int i = start;
+		boolean negative = false;
+		char potentialSign = src.charAt(i);
+
+		if (potentialSign == '-' || potentialSign == '+') {
+
+			if (profile != null && !profile.isSignAllowed(potentialSign)) {
+				return result.fail(Status.INVALID_CHAR, i);
+			}
+			negative = (potentialSign == '-');
+			i++;
+		}
+
+		// see parseSigned(CharSequence, int, int, long, NumberFormatProfile, NumberParseResult)
+		final boolean asciiOnly = profile != null && profile.getGrammar() != NumberFormatProfile.Grammar.LENIENT;
+		final boolean json = profile != null && profile.getGrammar() == NumberFormatProfile.Grammar.JSON;
+
+		// like Long.parseLong() we accumulate negatively, since the range of negative values is larger
+		final long limit = negative ? -maxValue - 1 : -maxValue;
+		final long multiplicationLimit = limit / 10;
+		final int digitsStart = i;
+		long value = 0;
+
+		for (; i < end; i++) {
+
+			char c = src.charAt(i);
+			int digit;
+
+			if (c >= LATIN_0 && c <= LATIN_9) {
+				digit = c - LATIN_0;
+
+			} else if (profile != null && i > digitsStart && i + 1 < end && profile.isGroupingSeparator(c)
+					&& UnicodeDigits.digit(src.charAt(i + 1)) >= 0) {
+				// a grouping separator between two digits
+				continue;
+
+			} else {
+				digit = asciiOnly ? -1 : UnicodeDigits.digit(c);
+
+				if (digit < 0) {
+					break;
+				}
+			}
+
+			// check the limits BEFORE we do any calculations
+			if (value < multiplicationLimit || value * 10 < limit + digit) {
+				return result.fail(Status.OVERFLOW, i);
+			}
+			value = value * 10 - digit;
+
+			if (json && digit == 0 && i == digitsStart) {
+				// a leading zero is a complete JSON integer
+				i++;
+				break;
+			}
+		}
+
+		if (i == digitsStart) {
+			return result.fail(Status.INVALID_CHAR, i);
+		}
+		return result.ok(negative ? value : -value, i);
+	}
+
+	static boolean parseFloatingPointPrefix(CharSequence src, int start, int end, boolean singlePrecision,
+			NumberFormatProfile profile, NumberParseResult result) {
+
+		result.reset(start);
+
+		if (src == null) {
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.length(), start, end);
+
+		if (start == end) {
+			return result.fail(Status.EMPTY, start);
+		}
+
+		double value = singlePrecision ? FloatingDecimal.parseFloatPrefix(src, start, end, profile.syntax(), result)
+				: FloatingDecimal.parseDoublePrefix(src, start, end, profile.syntax(), result);
+
+		if (result.getErrorIndex() >= 0) {
+			return result.fail(Status.INVALID_CHAR, result.getErrorIndex());
+		}
+		return result.ok(value, result.getIndex());
+	}
+
+	private static boolean parseBinary16(CharSequence src, int start, int end, boolean bfloat16,
+			NumberFormatProfile profile, NumberParseResult result) {
+
+		result.reset(start);
+
+		if (src == null) {
+			return result.fail(Status.EMPTY, 0);
+		}
+		checkRange(src.length(), start, end);
+
+		if (start == end || (profile.isTrimmed() && isBlank(src, start, end))) {
+			return result.fail(Status.EMPTY, end);
+		}
+
+		short bits = bfloat16 ? FloatingDecimal.parseBFloat16(src, start, end, profile.syntax(), result)
+				: FloatingDecimal.parseHalf(src, start, end, profile.syntax(), result);
+
+		if (result.getErrorIndex() >= 0) {
+			return result.fail(Status.INVALID_CHAR, result.getErrorIndex());
+		}
+		return result.ok((long) bits, end);
+	}
+
+	private static NumberType classifyRange(CharSequence src, int start, int end) {
+
+		final NumberType type = classifyInteger(src, start, end);
+
+		if (type != NumberType.NOT_A_NUMBER) {
+			return type;
+		}
+		return FloatingDecimal.isValidJavaFormatString(src, start, end, NumberSyntax.DEFAULT) ? NumberType.DOUBLE
+				: NumberType.NOT_A_NUMBER;
+	}
+
+	/**
+	 * Runs the grammar of {@link #parseSigned(CharSequence, int, int, int, long, NumberParseResult)} with radix 10
+	 * without a result. The digits are only compared with the limits, the (negative) value is accumulated only as long
+	 * as it fits into an int.
+	 *
+	 * @return {@link NumberType#INT}, {@link NumberType#LONG} or {@link NumberType#NOT_A_NUMBER}, also for an overflow
+	 */
+	private static NumberType classifyInteger(CharSequence string, int start, int end) {
+
+		int i = start;
+
+		// skip leading spaces
+		while (i < end && string.charAt(i) == ' ') {
+			i++;
+		}
+
+		if (i >= end) {
+			return NumberType.NOT_A_NUMBER;
+		}
+
+		boolean negative = false;
+		char potentialSign = string.charAt(i);
+
+		if (potentialSign < '0') {
+
+			if (potentialSign == '-') {
+				negative = true;
+
+			} else if (potentialSign != '+') {
+				return NumberType.NOT_A_NUMBER;
+			}
+			i++;
+		}
+
+		final String longLimit = negative ? MIN_LONG_DIGITS : MAX_LONG_DIGITS;
+		boolean digitSeen = false;
+		int significantDigits = 0;
+
+		// -1 if the significant digits are less than the prefix of the long limit, 1 if they are greater
+		int longComparison = 0;
+		int value = 0;
+		boolean isInt = true;
+
+		while (i < end) {
+
+			char c = string.charAt(i++);
+
+			// ignore spaces
+			if (c == ' ') {
+				continue;
+			}
+
+			int digit = (c >= LATIN_0 && c <= LATIN_9) ? c - LATIN_0 : UnicodeDigits.digit(c);
+
+			if (digit < 0) {
+				return NumberType.NOT_A_NUMBER;
+			}
+			digitSeen = true;
+
+			if (digit == 0 && significantDigits == 0) {
+				continue;
+			}
+
+			if (significantDigits == longLimit.length()) {
+				return NumberType.NOT_A_NUMBER;
+			}
+
+			if (longComparison == 0) {
+				longComparison = Integer.signum(digit - (longLimit.charAt(significantDigits) - LATIN_0));
+			}
+			significantDigits++;
+
+			if (isInt) {
+				// accumulate negatively like parseSigned(), the range of negative values is larger
+				if (value < Integer.MIN_VALUE / 10 || value * 10 < Integer.MIN_VALUE + digit
+						|| (!negative && value * 10 - digit == Integer.MIN_VALUE)) {
+					isInt = false;
+				} else {
+					value = value * 10 - digit;
+				}
+			}
+		}
+
+		if (!digitSeen || (significantDigits == longLimit.length() && longComparison > 0)) {
+			return NumberType.NOT_A_NUMBER;
+		}
+		return isInt ? NumberType.INT : NumberType.LONG;
+	}
+
+	static boolean parseFloatingPoint(CharSequence src, int start, int end, boolean singlePrecision,
+			NumberParseResult result) {
+		return parseFloatingPoint(src, start, end, singlePrecision, NumberFormatProfile.DEFAULT, result);
+	}
+
+	static boolean parseFloatingPoint(CharSequence src, int start, int end, boolean singlePrecision,
+			NumberFormatProfile profile, NumberParseResult result) {
+
+		result.reset(start);
+
+		if (src == null) {
+			return result.fail(Status.EMPTY, 0);
+		}
+
+		if (start == end || (profile.isTrimmed() && isBlank(src, start, end))) {
+			return result.fail(Status.EMPTY, end);
+		}
+
+		double value = singlePrecision ? FloatingDecimal.parseFloat(src, start, end, profile.syntax(), result)
+				: FloatingDecimal.parseDouble(src, start, end, profile.syntax(), result);
+
+		if (result.getErrorIndex() >= 0) {
+			return result.fail(Status.INVALID_CHAR, result.getErrorIndex());
+		}
+		return result.ok(value, end);
+	}
+
+	/**
+	 * @return <code>true</code> if the range contains only characters which are trimmed by {@link String#trim()}
+	 */
+	static boolean isBlank(CharSequence src, int start, int end) {
+
+		for (int i = start; i < end; i++) {
+			if (src.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks that <code>start</code> to <code>end</code> is a valid range of a source with the given length.
+	 */
+	static void checkRange(int length, int start, int end) {
+
+		if (start < 0 || start > end || end > length) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+		}
 	}
 
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse.sun.misc;
+
+import java.math.BigInteger;
+
+/**
+ * Eisel-Lemire algorithm for the conversion of a decimal <code>w * 10^q</code> with up to 19 significant digits into
+ * the correctly rounded binary floating point value.
+ * <p>
+ * The decimal significand is multiplied with the 128 most significant bits of <code>5^q</code>. In the vast majority of
+ * cases the upper bits of the product determine the rounded result, only if the truncated bits could change the
+ * result, i.e. the value is very close to the midpoint of two floating point values, the algorithm gives up and the
+ * caller falls back to the exact big integer comparison of {@link FloatingDecimal}.
+ * </p>
+ * <p>
+ * See Daniel Lemire, "Number Parsing at a Gigabyte per Second", Software: Practice and Experience 51 (8), 2021.
+ * </p>
+ *
+ * @author rmunge
+ */
+final class EiselLemire {
+
+    /**
+     * Maximum number of decimal digits which always fit into an unsigned <code>long</code>.
+     */
+    static final int MAX_DIGITS = 19;
+
+    /**
+     * Returned if the result can't be determined by this algorithm.
+     */
+    static final long UNDECIDED = -1L;
+
+    private static final int SMALLEST_POWER_OF_TEN = -325;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+
+    /**
+     * The 128 most significant bits of <code>5^q</code> for <code>q = -325 ... 308</code>, truncated, the upper 64 bits
+     * at <code>2 * (q + 325)</code> and the lower 64 bits at <code>2 * (q + 325) + 1</code>.
+     */
+    private static final long[] POW5_128 = createPowersOfFive();
+
+    private EiselLemire() {
+    }
+
+    /**
+     * Converts <code>w * 10^q</code> into the bits of the nearest <code>double</code>, ties to even.
+     *
+     * @param w the significand, an unsigned value with up to 19 decimal digits, not <code>0</code>
+     * @param q the decimal exponent
+     * @return the (positive) IEEE-754 bits of the result or {@link #UNDECIDED} if the result is ambiguous, a subnormal
+     *         number, zero or infinity
+     */
+    static long toDoubleBits(long w, int q) {
+        return toBits(w, q, DoubleConsts.SIGNIFICAND_WIDTH, DoubleConsts.EXP_BIAS);
+    }
+
+    /**
+     * Converts <code>w * 10^q</code> into the bits of the nearest <code>float</code>, ties to even. The result is rounded
+     * once, directly from the decimal value, and not from the nearest <code>double</code>.
+     *
+     * @param w the significand, an unsigned value with up to 19 decimal digits, not <code>0</code>
+     * @param q the decimal exponent
+     * @return the (positive) IEEE-754 bits of the result or {@link #UNDECIDED} if the result is ambiguous, a subnormal
+     *         number, zero or infinity
+     */
+    static int toFloatBits(long w, int q) {
+        final long bits = toBits(w, q, FloatConsts.SIGNIFICAND_WIDTH, FloatConsts.EXP_BIAS);
+        return (bits == UNDECIDED) ? (int) UNDECIDED : (int) bits;
+    }
+
+    /**
+     * Converts <code>w * 10^q</code> into the bits of a <code>double</code> which differs from the nearest
+     * <code>double</code> by at most one ulp, without ever giving up.
+     * <p>
+     * Only the 64 most significant bits of <code>5^q</code> and of the product are used. Their relative truncation
+     * error is below <code>2^-62</code>, far below the half ulp (<code>2^-53</code>) of the final rounding, so the result
+     * is the correctly rounded value unless the decimal value is within about <code>2^-62</code> of a midpoint, in which
+     * case it may be the other neighbor. The same bound holds for subnormal results, whose bits are rounded with the
+     * shifted out bits ignored. A significand which has been truncated to 19 digits adds a relative error of up to
+     * <code>10^-18</code> (about <code>2^-59.8</code>), which widens the band around a midpoint accordingly but is
+     * still far below the half ulp, thus the result still differs from the nearest <code>double</code> by at most one
+     * ulp.
+     * </p>
+     *
+     * @param w the significand, an unsigned value with up to 19 decimal digits, not <code>0</code>
+     * @param q the decimal exponent
+     * @return the (positive) IEEE-754 bits of the result, including zero and infinity
+     */
+    static long toDoubleBitsApproximate(long w, int q) {
+
+        if (q > LARGEST_POWER_OF_TEN) {
+            // w * 10^q >= 10^309
+            return DoubleConsts.EXP_BIT_MASK;
+        }
+
+        // below the table the digits which are less than 10^-325 are dropped, which is less than a 50th of the
+        // smallest subnormal value
+        for (; q < SMALLEST_POWER_OF_TEN && w != 0; q++) {
+            w = Long.divideUnsigned(w, 10L);
+        }
+        if (w == 0) {
+            return 0L;
+        }
+
+        final long exponent = (((152170L + 65536L) * q) >> 16) + DoubleConsts.EXP_BIAS + 64;
+        int lz = Long.numberOfLeadingZeros(w);
+        final long upper = unsignedMultiplyHigh(w << lz, POW5_128[2 * (q - SMALLEST_POWER_OF_TEN)]);
+
+        // the significand plus one rounding bit with a leading one
+        final long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 64 - DoubleConsts.SIGNIFICAND_WIDTH - 2);
+        lz += (int) (1 ^ upperBit);
+        long realExponent = exponent - lz;
+
+        if (realExponent < 1) {
+            // subnormal, a carry into the smallest normal exponent is a valid encoding
+            final long shift = 1 - realExponent;
+            return (shift >= 64) ? 0L : ((mantissa >>> shift) + 1) >>> 1;
+        }
+
+        mantissa = (mantissa + 1) >>> 1;
+
+        if (mantissa >= (1L << DoubleConsts.SIGNIFICAND_WIDTH)) {
+            // rounding overflowed into the next binade
+            mantissa = (1L << (DoubleConsts.SIGNIFICAND_WIDTH - 1));
+            realExponent++;
+        }
+
+        if (realExponent > 2 * DoubleConsts.EXP_BIAS) {
+            return DoubleConsts.EXP_BIT_MASK;
+        }
+        return (mantissa & ~(1L << (DoubleConsts.SIGNIFICAND_WIDTH - 1))) | realExponent << (DoubleConsts.SIGNIFICAND_WIDTH - 1);
+    }
+
+    /**
+     * @param significandWidth the number of significand bits of the binary format, including the implicit bit
+     * @param exponentBias the exponent bias of the binary format
+     */
+    private static long toBits(long w, int q, int significandWidth, int exponentBias) {
+
+        if (q < SMALLEST_POWER_OF_TEN || q > LARGEST_POWER_OF_TEN) {
+            return UNDECIDED;
+        }
+
+        // the bits below the significand plus one rounding bit, i.e. 9 bits for double and 38 bits for float
+        final long precisionMask = -1L >>> (significandWidth + 2);
+
+        // binary exponent of 10^q (rounded down) plus the exponent bias and 64 bits of the product
+        final long exponent = (((152170L + 65536L) * q) >> 16) + exponentBias + 64;
+        int lz = Long.numberOfLeadingZeros(w);
+        final long normalized = w << lz;
+
+        final int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+        final long factorHigh = POW5_128[index];
+        long lower = normalized * factorHigh;
+        long upper = unsignedMultiplyHigh(normalized, factorHigh);
+
+        // the upper bits are exact unless the truncation error of the 64 bit power could carry into them
+        if ((upper & precisionMask) == precisionMask && Long.compareUnsigned(lower + normalized, lower) < 0) {
+
+            final long factorLow = POW5_128[index + 1];
+            final long productLow = normalized * factorLow;
+            final long productMiddle = lower + unsignedMultiplyHigh(normalized, factorLow);
+
+            if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                upper++;
+            }
+
+            // the truncated bits of the 128 bit power could still carry into the result
+            if (productMiddle + 1 == 0 && (upper & precisionMask) == precisionMask
+                    && Long.compareUnsigned(productLow + normalized, productLow) < 0) {
+                return UNDECIDED;
+            }
+            lower = productMiddle;
+        }
+
+        // the significand plus one rounding bit with a leading one
+        final long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 64 - significandWidth - 2);
+        lz += (int) (1 ^ upperBit);
+
+        // a value exactly between two binary values (or too close to decide) needs the exact comparison for round to even
+        if (((upper & precisionMask) == precisionMask) || ((upper & precisionMask) == 0 && (mantissa & 3) == 1)) {
+            return UNDECIDED;
+        }
+
+        mantissa += 1;
+        mantissa >>>= 1;
+
+        if (mantissa >= (1L << significandWidth)) {
+            // rounding overflowed into the next binade
+            mantissa = (1L << (significandWidth - 1));
+            lz--;
+        }
+        mantissa &= ~(1L << (significandWidth - 1));
+
+        final long realExponent = exponent - lz;
+
+        if (realExponent < 1 || realExponent > 2 * exponentBias) {
+            return UNDECIDED;
+        }
+        return mantissa | realExponent << (significandWidth - 1);
+    }
+
+    /**
+     * Returns the upper 64 bits of the unsigned 128 bit product of <code>x</code> and <code>y</code>.
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+
+        final long p00 = x0 * y0;
+        final long p10 = x1 * y0 + (p00 >>> 32);
+        final long p01 = x0 * y1 + (p10 & 0xFFFFFFFFL);
+        return x1 * y1 + (p10 >>> 32) + (p01 >>> 32);
+    }
+
+    private static long[] createPowersOfFive() {
+
+        final long[] table = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+        final BigInteger five = BigInteger.valueOf(5);
+        BigInteger power = BigInteger.ONE;
+
+        for (int q = 0; q <= LARGEST_POWER_OF_TEN; q++) {
+            store(table, q, normalize(power));
+            power = power.multiply(five);
+        }
+
+        power = five;
+
+        for (int q = -1; q >= SMALLEST_POWER_OF_TEN; q--) {
+            // 2^b / 5^-q has exactly 128 bits for b = bitLength(5^-q) + 127
+            store(table, q, BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power));
+            power = power.multiply(five);
+        }
+        return table;
+    }
+
+    /**
+     * Shifts a positive value so that it has exactly 128 bits, truncating the lower bits.
+     */
+    private static BigInteger normalize(BigInteger value) {
+        final int shift = 128 - value.bitLength();
+        return (shift >= 0) ? value.shiftLeft(shift) : value.shiftRight(-shift);
+    }
+
+    private static void store(long[] table, int q, BigInteger value) {
+        final int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+        table[index] = value.shiftRight(64).longValue();
+        table[index + 1] = value.longValue();
+    }
+}
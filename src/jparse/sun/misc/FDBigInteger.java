@@ -22,10 +22,24 @@
  * or visit www.oracle.com if you need additional information or have any
  * questions.
  */
+
+/*
+ * Changes by rmunge:
+ *
+ * - Mutable values can be reinitialized in place with the set...() methods and grow their data array geometrically,
+ *   thus a per thread working set of FDBigIntegers makes the slow paths of FloatingDecimal allocation free once the
+ *   arrays have reached their final size (ARENA)
+ *
+ * - big5pow() lazily caches the powers of five above the precomputed POW_5_CACHE, which are needed by the slow paths
+ *   of very small or long numbers, instead of recomputing them on every call (LAZY5)
+ *
+ *
+ */
 package jparse.sun.misc;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 //@ model import org.jmlspecs.models.JMLMath;
 
 /**
@@ -135,6 +149,18 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
         }
     }
 
+    // Exclusive upper bound of the lazily cached powers of 5: the largest power
+    // needed by FloatingDecimal is 5^(-MIN_DECIMAL_EXPONENT + 1 + MAX_NDIGITS + 1),
+    // i.e. the smallest decimal exponent of a non-zero double with the maximum
+    // number of digits (LAZY5).
+    private static final int MAX_LAZY_FIVE_POW = -FloatingDecimal.MIN_DECIMAL_EXPONENT + FloatingDecimal.MAX_NDIGITS + 3;
+
+    // Lazily computed immutable powers of 5 from MAX_FIVE_POW (inclusive) to
+    // MAX_LAZY_FIVE_POW (exclusive). Each slot is published once, if two threads
+    // compute the same power concurrently, the value of the first one wins (LAZY5).
+    private static final AtomicReferenceArray<FDBigInteger> LAZY_POW_5_CACHE =
+            new AtomicReferenceArray<FDBigInteger>(MAX_LAZY_FIVE_POW - MAX_FIVE_POW);
+
     // Zero as an FDBigInteger.
     public static final FDBigInteger ZERO = new FDBigInteger(new int[0], 0);
 
@@ -146,6 +172,9 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
     // Constant for casting an int to a long via bitwise AND.
     private final static long LONG_MASK = 0xffffffffL;
 
+    // Initial number of words of a mutable value, see FDBigInteger() (ARENA).
+    private static final int INITIAL_CAPACITY = 8;
+
     //@ spec_public non_null;
     private int data[];  // value: data[0] is least significant
     //@ spec_public;
@@ -207,6 +236,136 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
     public FDBigInteger(long lValue, char[] digits, int kDigits, int nDigits) {
         int n = Math.max((nDigits + 8) / 9, 2);        // estimate size needed.
         data = new int[n];      // allocate enough space
+        initDigits(lValue, digits, kDigits, nDigits);
+    }
+
+    /**
+     * Constructs a mutable zero, which is intended to be reinitialized by the
+     * <code>set...()</code> methods (ARENA).
+     */
+    FDBigInteger() {
+        this.data = new int[INITIAL_CAPACITY];
+        this.offset = 0;
+        this.nWords = 0;
+    }
+
+    /**
+     * Sets this mutable <code>FDBigInteger</code> to a starting value and some
+     * decimal digits, see {@link #FDBigInteger(long, char[], int, int)} (ARENA).
+     *
+     * @param lValue The starting value.
+     * @param digits The decimal digits.
+     * @param kDigits The initial index into <code>digits</code>.
+     * @param nDigits The final index into <code>digits</code>.
+     * @return This <code>FDBigInteger</code>.
+     */
+    FDBigInteger setDigits(long lValue, char[] digits, int kDigits, int nDigits) {
+        clear();
+        ensureCapacity(Math.max((nDigits + 8) / 9, 2));
+        initDigits(lValue, digits, kDigits, nDigits);
+        return this;
+    }
+
+    /**
+     * Sets this mutable <code>FDBigInteger</code> to
+     * <code>value * 5<sup>p5</sup> * 2<sup>p2</sup></code>, see
+     * {@link #valueOfMulPow52(long, int, int)} (ARENA).
+     *
+     * @param value The constant factor.
+     * @param p5 The exponent of the power-of-five factor.
+     * @param p2 The exponent of the power-of-two factor.
+     * @return This <code>FDBigInteger</code>.
+     */
+    FDBigInteger setMulPow52(long value, int p5, int p2) {
+        assert p5 >= 0 : p5;
+        assert p2 >= 0 : p2;
+        clear();
+        int v0 = (int) value;
+        int v1 = (int) (value >>> 32);
+        if (p5 >= SMALL_5_POW.length) {
+            FDBigInteger pow5 = big5pow(p5);
+            ensureCapacity(pow5.nWords + 3);
+            mult(pow5.data, pow5.nWords, v0, v1, data);
+            nWords = pow5.nWords + 2;
+            offset = pow5.offset;
+        } else {
+            ensureCapacity(4);
+            data[0] = v0;
+            data[1] = v1;
+            nWords = 2;
+            if (p5 != 0) {
+                mult(data, 2, SMALL_5_POW[p5], data); // in place, dst[i] only depends on src[0 .. i]
+                nWords = 3;
+            }
+        }
+        trimLeadingZeros();
+        return leftShift(p2);
+    }
+
+    /**
+     * Sets this mutable <code>FDBigInteger</code> to
+     * <code>x * 5<sup>p5</sup> * 2<sup>p2</sup></code>, see
+     * {@link #multByPow52(int, int)} (ARENA).
+     *
+     * @param x The factor, which must not be this <code>FDBigInteger</code>.
+     * @param p5 The exponent of the power-of-five factor.
+     * @param p2 The exponent of the power-of-two factor.
+     * @return This <code>FDBigInteger</code>.
+     */
+    FDBigInteger setMulPow52(FDBigInteger x, int p5, int p2) {
+        assert x != this;
+        clear();
+        if (x.nWords == 0) {
+            return this;
+        }
+        if (p5 == 0) {
+            ensureCapacity(x.nWords + 1);
+            System.arraycopy(x.data, 0, data, 0, x.nWords);
+            nWords = x.nWords;
+            offset = x.offset;
+        } else if (p5 < SMALL_5_POW.length) {
+            ensureCapacity(x.nWords + 2);
+            mult(x.data, x.nWords, SMALL_5_POW[p5], data);
+            nWords = x.nWords + 1;
+            offset = x.offset;
+        } else {
+            FDBigInteger pow5 = big5pow(p5);
+            ensureCapacity(x.nWords + pow5.nWords + 1);
+            Arrays.fill(data, 0, x.nWords + pow5.nWords, 0); // mult() accumulates into dst
+            mult(x.data, x.nWords, pow5.data, pow5.nWords, data);
+            nWords = x.nWords + pow5.nWords;
+            offset = x.offset + pow5.offset;
+        }
+        trimLeadingZeros();
+        return leftShift(p2);
+    }
+
+    /**
+     * Sets this mutable <code>FDBigInteger</code> to zero, all words of the
+     * data array are zero afterwards.
+     */
+    private void clear() {
+        assert !isImmutable : "cannot modify immutable value";
+        Arrays.fill(data, 0, nWords, 0);
+        nWords = 0;
+        offset = 0;
+    }
+
+    /**
+     * Grows the data array of this mutable <code>FDBigInteger</code> to at
+     * least <code>n</code> words. The array grows geometrically, as it is
+     * retained by reused values (ARENA).
+     */
+    private void ensureCapacity(int n) {
+        if (data.length < n) {
+            data = Arrays.copyOf(data, Math.max(n, 2 * data.length));
+        }
+    }
+
+    /*@
+     @ requires nWords == 0 && data.length >= Math.max((nDigits + 8) / 9, 2);
+     @*/
+    private void initDigits(long lValue, char[] digits, int kDigits, int nDigits) {
         data[0] = (int) lValue;    // starting value
         data[1] = (int) (lValue >>> 32);
         offset = 0;
@@ -504,7 +663,8 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
                     int[] src = data;
                     if (hi != 0) {
                         if(nWords == data.length) {
-                            data = result = new int[nWords + 1];
+                            ensureCapacity(nWords + 1); // (ARENA)
+                            result = src = data;
                         }
                         result[nWords++] = hi;
                     }
@@ -572,6 +732,7 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
             // just mult this by 10.
             int p = multAndCarryBy10(this.data, this.nWords, this.data);
             if(p!=0) {
+                ensureCapacity(nWords + 1); // (ARENA)
                 this.data[nWords++] = p;
             } else {
                 trimLeadingZeros();
@@ -666,7 +827,7 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
                         System.arraycopy(data, 1, data, 0, --nWords);
                         offset++;
                     } else {
-                        data = Arrays.copyOf(data, data.length + 1);
+                        ensureCapacity(data.length + 1); // (ARENA)
                     }
                 }
                 data[nWords++] = p;
@@ -794,14 +955,10 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
         if (offsetDiff < 0) {
             // need to expand minuend
             int rLen = minLen - offsetDiff;
-            if (rLen < mData.length) {
-                System.arraycopy(mData, 0, mData, -offsetDiff, minLen);
-                Arrays.fill(mData, 0, -offsetDiff, 0);
-            } else {
-                int[] r = new int[rLen];
-                System.arraycopy(mData, 0, r, -offsetDiff, minLen);
-                minuend.data = mData = r;
-            }
+            minuend.ensureCapacity(rLen); // (ARENA)
+            mData = minuend.data;
+            System.arraycopy(mData, 0, mData, -offsetDiff, minLen);
+            Arrays.fill(mData, 0, -offsetDiff, 0);
             minuend.offset = subtrahend.offset;
             minuend.nWords = minLen = rLen;
             offsetDiff = 0;
@@ -860,22 +1017,17 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
         int minLen = minuend.nWords;
         if (offsetDiff < 0) {
             int rLen = minLen;
-            if (rLen < sData.length) {
-                System.arraycopy(sData, 0, sData, -offsetDiff, subLen);
-                Arrays.fill(sData, 0, -offsetDiff, 0);
-            } else {
-                int[] r = new int[rLen];
-                System.arraycopy(sData, 0, r, -offsetDiff, subLen);
-                subtrahend.data = sData = r;
-            }
+            subtrahend.ensureCapacity(rLen); // (ARENA)
+            sData = subtrahend.data;
+            System.arraycopy(sData, 0, sData, -offsetDiff, subLen);
+            Arrays.fill(sData, 0, -offsetDiff, 0);
             subtrahend.offset = minuend.offset;
             subLen -= offsetDiff;
             offsetDiff = 0;
         } else {
             int rLen = minLen + offsetDiff;
-            if (rLen >= sData.length) {
-                subtrahend.data = sData = Arrays.copyOf(sData, rLen);
-            }
+            subtrahend.ensureCapacity(rLen); // (ARENA)
+            sData = subtrahend.data;
         }
         //@ assert minuend == this && minuend.value() == \old(this.value());
         //@ assert mData == minuend.data && minLen == minuend.nWords;
@@ -1008,6 +1160,25 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
         return this.cmp(big5pow(p5).leftShift(p2));
     }
 
+    /**
+     * Compares this <code>FDBigInteger</code> with
+     * <code>5<sup>p5</sup> * 2<sup>p2</sup></code>, see
+     * {@link #cmpPow52(int, int)}. The power is computed in a mutable
+     * <code>FDBigInteger</code> of the caller instead of a new one (ARENA).
+     *
+     * @param p5 The exponent of the power-of-five factor.
+     * @param p2 The exponent of the power-of-two factor.
+     * @param scratch A mutable <code>FDBigInteger</code>, which is overwritten.
+     * @return A negative value, zero, or a positive value according to the
+     * result of the comparison.
+     */
+    int cmpPow52(int p5, int p2, FDBigInteger scratch) {
+        if (p5 == 0) {
+            return cmpPow52(p5, p2);
+        }
+        return this.cmp(scratch.setMulPow52(1L, p5, p2));
+    }
+
     /**
      * Compares this <code>FDBigInteger</code> with <code>x + y</code>. Returns a
      * value according to the comparison as:
@@ -1024,6 +1195,22 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
      @ ensures \result == (this.value() < x.value() + y.value() ? -1 : this.value() > x.value() + y.value() ? +1 : 0);
      @*/
     public /*@ pure @*/ int addAndCmp(FDBigInteger x, FDBigInteger y) {
+        return addAndCmp(x, y, null);
+    }
+
+    /**
+     * Compares this <code>FDBigInteger</code> with <code>x + y</code>, see
+     * {@link #addAndCmp(FDBigInteger, FDBigInteger)}. If the sum has to be
+     * computed, it is stored in a mutable <code>FDBigInteger</code> of the
+     * caller instead of a new one (ARENA).
+     *
+     * @param x The first addend of the sum to compare.
+     * @param y The second addend of the sum to compare.
+     * @param scratch A mutable <code>FDBigInteger</code>, which is overwritten,
+     * or <code>null</code>.
+     * @return -1, 0, or 1 according to the result of the comparison.
+     */
+    int addAndCmp(FDBigInteger x, FDBigInteger y, FDBigInteger scratch) {
         FDBigInteger big;
         FDBigInteger small;
         int xSize = x.size();
@@ -1087,7 +1274,7 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
                 return 1;
             }
         }
-        return this.cmp(big.add(small));
+        return this.cmp((scratch != null) ? scratch.setSum(big, small) : big.add(small));
     }
 
     /**
@@ -1195,6 +1382,39 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
             smallLen = tSize;
         }
         int[] r = new int[bigLen + 1];
+        add(big, bigLen, small, smallLen, r);
+        return new FDBigInteger(r, 0);
+    }
+
+    /**
+     * Sets this mutable <code>FDBigInteger</code> to the sum of two other
+     * <code>FDBigInteger</code>s (ARENA).
+     *
+     * @param big The addend with the larger size, which must not be this <code>FDBigInteger</code>.
+     * @param small The other addend, which must not be this <code>FDBigInteger</code>.
+     * @return This <code>FDBigInteger</code>.
+     */
+    private FDBigInteger setSum(FDBigInteger big, FDBigInteger small) {
+        assert big != this && small != this;
+        clear();
+        int bigLen = big.size();
+        ensureCapacity(bigLen + 1);
+        add(big, bigLen, small, small.size(), data);
+        nWords = bigLen + 1;
+        trimLeadingZeros();
+        return this;
+    }
+
+    /**
+     * Adds two <code>FDBigInteger</code>s into an array.
+     *
+     * @param big The addend with the larger size.
+     * @param bigLen The size of <code>big</code>.
+     * @param small The other addend.
+     * @param smallLen The size of <code>small</code>.
+     * @param r The sum array, at least <code>bigLen + 1</code> words.
+     */
+    private static void add(FDBigInteger big, int bigLen, FDBigInteger small, int smallLen, int[] r) {
         int i = 0;
         long carry = 0L;
         for (; i < smallLen; i++) {
@@ -1209,7 +1429,6 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
             carry >>= 32; // signed shift.
         }
         r[bigLen] = (int) carry;
-        return new FDBigInteger(r, 0);
     }
 
 
@@ -1290,35 +1509,22 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
         long diff = 0L;
         if (q != 0) {
             int deltaSize = S.offset - this.offset;
-            if (deltaSize >= 0) {
-                int[] sd = S.data;
-                int[] td = this.data;
-                for (int sIndex = 0, tIndex = deltaSize; sIndex < S.nWords; sIndex++, tIndex++) {
-                    diff += (td[tIndex] & LONG_MASK) - q * (sd[sIndex] & LONG_MASK);
-                    td[tIndex] = (int) diff;
-                    diff >>= 32; // N.B. SIGNED shift.
-                }
-            } else {
+            if (deltaSize < 0) {
+                // expand this in place to the offset of S (ARENA)
                 deltaSize = -deltaSize;
-                int[] rd = new int[nWords + deltaSize];
-                int sIndex = 0;
-                int rIndex = 0;
-                int[] sd = S.data;
-                for (; rIndex < deltaSize && sIndex < S.nWords; sIndex++, rIndex++) {
-                    diff -= q * (sd[sIndex] & LONG_MASK);
-                    rd[rIndex] = (int) diff;
-                    diff >>= 32; // N.B. SIGNED shift.
-                }
-                int tIndex = 0;
-                int[] td = this.data;
-                for (; sIndex < S.nWords; sIndex++, tIndex++, rIndex++) {
-                    diff += (td[tIndex] & LONG_MASK) - q * (sd[sIndex] & LONG_MASK);
-                    rd[rIndex] = (int) diff;
-                    diff >>= 32; // N.B. SIGNED shift.
-                }
+                ensureCapacity(nWords + deltaSize);
+                System.arraycopy(data, 0, data, deltaSize, nWords);
+                Arrays.fill(data, 0, deltaSize, 0);
                 this.nWords += deltaSize;
                 this.offset -= deltaSize;
-                this.data = rd;
+                deltaSize = 0;
+            }
+            int[] sd = S.data;
+            int[] td = this.data;
+            for (int sIndex = 0, tIndex = deltaSize; sIndex < S.nWords; sIndex++, tIndex++) {
+                diff += (td[tIndex] & LONG_MASK) - q * (sd[sIndex] & LONG_MASK);
+                td[tIndex] = (int) diff;
+                diff >>= 32; // N.B. SIGNED shift.
             }
         }
         return diff;
@@ -1422,6 +1628,18 @@ public /*@ spec_bigint_math @*/ class FDBigInteger {
         if (p < MAX_FIVE_POW) {
             return POW_5_CACHE[p];
         }
+        if (p < MAX_LAZY_FIVE_POW) { // (LAZY5)
+            int index = p - MAX_FIVE_POW;
+            FDBigInteger pow5 = LAZY_POW_5_CACHE.get(index);
+            if (pow5 == null) {
+                pow5 = big5powRec(p);
+                pow5.makeImmutable();
+                if (!LAZY_POW_5_CACHE.compareAndSet(index, null, pow5)) {
+                    pow5 = LAZY_POW_5_CACHE.get(index);
+                }
+            }
+            return pow5;
+        }
         return big5powRec(p);
     }
 
@@ -35,13 +35,65 @@
  *
  * - parseDouble(), parseFloat() support now also the ',' as decimal mark (DECM)
  *
+ * - parseDouble(), parseFloat() and readJavaFormatString() optionally report the index of the first invalid character
+ *   through a ParsePosition (POS)
+ *
+ * - parseDouble(), parseFloat() and readJavaFormatString() accept a range of a CharSequence instead of a String, leading
+ *   and trailing whitespace is skipped instead of calling trim() (RANGE)
+ *
+ * - parseDouble(), parseFloat() and readJavaFormatString() optionally accept a NumberSyntax, the compiled form of a
+ *   jparse.NumberFormatProfile, which defines the decimal marks, grouping separators, allowed signs and whether
+ *   whitespace is skipped (PROF)
+ *
+ * - ASCIIToBinaryBuffer.doubleValue() converts values with up to 19 significant digits with the Eisel-Lemire algorithm
+ *   (see EiselLemire) before it falls back to the FDBigInteger correction loop (EL)
+ *
+ * - readJavaFormatString() reuses a thread local ASCIIToBinaryBuffer and accumulates the first 19 digits in a long,
+ *   which is converted without reading the digits again (ALLOC)
+ *
+ * - parseHexString() scans a range of a CharSequence by hand instead of matching a regular expression and extracting
+ *   sub-strings (HEX)
+ *
+ * - ASCIIToBinaryBuffer.floatValue() converts values with up to 19 significant digits directly to float, with exact
+ *   float or double operations or the 32 bit variant of the Eisel-Lemire algorithm, before it falls back to the
+ *   double oriented FDBigInteger loop (FLT)
+ *
+ * - readJavaFormatString() stores at most MAX_NDIGITS (768) digits and replaces the remaining digits by a sticky
+ *   nonzero digit, thus the digit buffer and the work of the FDBigInteger loop are bounded for any input length (CAP)
+ *
+ * - ASCIIToBinaryBuffer and BinaryToASCIIBuffer keep a working set of mutable FDBigIntegers, which are reinitialized in
+ *   place by every slow path conversion of their thread instead of allocating new values (ARENA)
+ *
+ * - isValidJavaFormatString() checks the grammar of readJavaFormatString() without storing digits or converting the
+ *   value (VALID)
+ *
+ * - parseScaledLong() converts the digits scanned by readJavaFormatString() into the exact unscaled long value of a
+ *   fixed point number, without any floating point arithmetic (SCALE)
+ *
+ * - parseDoubleApproximate() trades the correct rounding of the last bit for speed, it never enters the FDBigInteger
+ *   correction loop and differs from parseDouble() by at most one ulp (APPROX)
+ *
+ * - Decimal digits of any script, e.g. arabic-indic or full-width digits, are accepted like ASCII digits, ASCII input
+ *   pays only one additional comparison per character (UNI)
+ *
+ * - parseDoublePrefix() and parseFloatPrefix() convert the longest number at the start of a range and report its end,
+ *   readJavaFormatString() stops at the first character which can't extend the number instead of failing (PREFIX)
+ *
+ * - readJavaFormatString() scans the strict grammars of the JAVA and JSON profiles with a dedicated ASCII-only scanner,
+ *   which rejects a disallowed construct at the character where it occurs, without a separate validation pass (GRAM)
+ *
+ * - parseHalf() and parseBFloat16() round the scanned digits to the 16 bit encoding of an IEEE binary16 or bfloat16
+ *   value. The nearest double is rounded again, only a double exactly halfway between two 16 bit values is resolved by
+ *   an exact comparison with the digits or, for a hexadecimal value, by the round and sticky bits of parseHexString(),
+ *   thus the result is rounded once (B16)
+ *
  *
  */
 package jparse.sun.misc;
 
+import java.text.ParsePosition;
 import java.util.Arrays;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
 
 
 
@@ -66,7 +118,9 @@ public class FloatingDecimal{
     static final int    MAX_DECIMAL_EXPONENT = 308;
     static final int    MIN_DECIMAL_EXPONENT = -324;
     static final int    BIG_DECIMAL_EXPONENT = 324; // i.e. abs(MIN_DECIMAL_EXPONENT)
-    static final int    MAX_NDIGITS = 1100;
+    // digits after the first MAX_NDIGITS digits only matter as a nonzero tail, as
+    // the midpoint between two doubles has at most 767 significant digits (CAP)
+    static final int    MAX_NDIGITS = 768;
 
     static final int    SINGLE_EXP_SHIFT  =   FloatConsts.SIGNIFICAND_WIDTH - 1;
     static final int    SINGLE_FRACT_HOB  =   1<<SINGLE_EXP_SHIFT;
@@ -76,6 +130,44 @@ public class FloatingDecimal{
     static final int    SINGLE_MAX_NDIGITS = 200;
 
     static final int    INT_DECIMAL_DIGITS = 9;
+    // the first decimal digit after ASCII, ARABIC-INDIC DIGIT ZERO (UNI)
+    static final char   MIN_UNICODE_DIGIT = '\u0660';
+    static final int    LONG_DECIMAL_DIGITS = 19;
+
+    /**
+     * Returned by parseScaledLong() together with an error index if the range is not a properly
+     * formatted decimal number (SCALE).
+     */
+    public static final long SCALED_INVALID = 0L;
+
+    /**
+     * Returned by parseScaledLong() together with an error index if the unscaled value is out of the
+     * range of a <code>long</code> (SCALE).
+     */
+    public static final long SCALED_OVERFLOW = 1L;
+
+    /**
+     * Returned by parseScaledLong() together with an error index if the number has more fraction
+     * digits than the scale allows (SCALE).
+     */
+    public static final long SCALED_INEXACT = 2L;
+
+    /**
+     * The quiet NaN of IEEE binary16, returned by parseHalf() if the range is not a properly
+     * formatted floating point value (B16).
+     */
+    public static final short HALF_NAN = 0x7E00;
+
+    /**
+     * The quiet NaN of bfloat16, returned by parseBFloat16() if the range is not a properly
+     * formatted floating point value (B16).
+     */
+    public static final short BFLOAT16_NAN = 0x7FC0;
+
+    static final int    HALF_SIGNIFICAND_WIDTH = 11;
+    static final int    HALF_EXP_BIAS = 15;
+    static final int    BFLOAT16_SIGNIFICAND_WIDTH = 8;
+    static final int    BFLOAT16_EXP_BIAS = 127;
 
     /**
      * Converts a double precision floating point value to a <code>String</code>.
@@ -119,29 +211,22 @@ public class FloatingDecimal{
      * Converts a <code>String</code> to a double precision floating point value.
      *
      * @param s The <code>String</code> to convert.
-     * @return The double precision value or <code>null</code> if the <code>String</code> does not
-     * represent a properly formatted single precision value.
+     * @return The double precision value or <code>NaN</code> if the <code>String</code> does not
+     * represent a properly formatted double precision value.
      */
     public static double parseDouble(String s) {
 
     	if (s == null) {
     		return Double.NaN;
     	}
-
-    	ASCIIToBinaryConverter result = readJavaFormatString(s);
-
-    	if (result == null) {
-    		return Double.NaN;
-    	}
-
-        return result.doubleValue();
+        return parseDouble(s, 0, s.length(), null);
     }
 
     /**
      * Converts a <code>String</code> to a single precision floating point value.
      *
      * @param s The <code>String</code> to convert.
-     * @return The single precision value or <code>null</code> if the <code>String</code> does not
+     * @return The single precision value or <code>NaN</code> if the <code>String</code> does not
      * represent a properly formatted single precision value.
      */
     public static float parseFloat(String s) {
@@ -149,16 +234,519 @@ public class FloatingDecimal{
     	if (s == null) {
     		return Float.NaN;
     	}
+        return parseFloat(s, 0, s.length(), null);
+    }
 
-    	ASCIIToBinaryConverter result = readJavaFormatString(s);
+    /**
+     * Converts a <code>String</code> to a double precision floating point value.
+     *
+     * @param s The <code>String</code> to convert.
+     * @param pos Receives the index after the converted value or, if the <code>String</code> does not
+     * represent a properly formatted double precision value, the error index (POS).
+     * @return The double precision value or <code>NaN</code> if the <code>String</code> does not
+     * represent a properly formatted double precision value.
+     */
+    public static double parseDouble(String s, ParsePosition pos) {
 
-    	if (result == null) {
-    		return Float.NaN;
-    	}
+        if (s == null) {
+            invalid(pos, 0);
+            return Double.NaN;
+        }
+        return parseDouble(s, 0, s.length(), pos);
+    }
+
+    /**
+     * Converts a <code>String</code> to a single precision floating point value.
+     *
+     * @param s The <code>String</code> to convert.
+     * @param pos Receives the index after the converted value or, if the <code>String</code> does not
+     * represent a properly formatted single precision value, the error index (POS).
+     * @return The single precision value or <code>NaN</code> if the <code>String</code> does not
+     * represent a properly formatted single precision value.
+     */
+    public static float parseFloat(String s, ParsePosition pos) {
 
+        if (s == null) {
+            invalid(pos, 0);
+            return Float.NaN;
+        }
+        return parseFloat(s, 0, s.length(), pos);
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> to a double precision floating point value (RANGE).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted double precision value, the error index (POS).
+     * @return The double precision value or <code>NaN</code> if the range does not
+     * represent a properly formatted double precision value.
+     */
+    public static double parseDouble(CharSequence s, int start, int end, ParsePosition pos) {
+        return parseDouble(s, start, end, NumberSyntax.DEFAULT, pos);
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> in the format of a given profile to a double precision floating point value (PROF).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param profile The decimal marks, grouping separators, signs and whitespace handling of the format.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted double precision value, the error index (POS).
+     * @return The double precision value or <code>NaN</code> if the range does not
+     * represent a properly formatted double precision value.
+     */
+    public static double parseDouble(CharSequence s, int start, int end, NumberSyntax profile, ParsePosition pos) {
+
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, pos);
+
+        if (result == null) {
+            return Double.NaN;
+        }
+
+        if (pos != null) {
+            pos.setIndex(end);
+        }
+        return result.doubleValue();
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> to a single precision floating point value (RANGE).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted single precision value, the error index (POS).
+     * @return The single precision value or <code>NaN</code> if the range does not
+     * represent a properly formatted single precision value.
+     */
+    public static float parseFloat(CharSequence s, int start, int end, ParsePosition pos) {
+        return parseFloat(s, start, end, NumberSyntax.DEFAULT, pos);
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> in the format of a given profile to a single precision floating point value (PROF).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param profile The decimal marks, grouping separators, signs and whitespace handling of the format.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted single precision value, the error index (POS).
+     * @return The single precision value or <code>NaN</code> if the range does not
+     * represent a properly formatted single precision value.
+     */
+    public static float parseFloat(CharSequence s, int start, int end, NumberSyntax profile, ParsePosition pos) {
+
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, pos);
+
+        if (result == null) {
+            return Float.NaN;
+        }
+
+        if (pos != null) {
+            pos.setIndex(end);
+        }
         return result.floatValue();
     }
 
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> in the format of a given profile to the bits of the nearest IEEE
+     * binary16 (half precision) value, ties to even (B16).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param profile The decimal marks, grouping separators, signs and whitespace handling of the format.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted floating point value, the error index.
+     * @return The binary16 encoding or {@link #HALF_NAN} if the range does not represent a properly
+     * formatted floating point value.
+     */
+    public static short parseHalf(CharSequence s, int start, int end, NumberSyntax profile, ParsePosition pos) {
+
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, pos);
+
+        if (result == null) {
+            return HALF_NAN;
+        }
+
+        if (pos != null) {
+            pos.setIndex(end);
+        }
+        return toBinary16(result, HALF_SIGNIFICAND_WIDTH, HALF_EXP_BIAS, HALF_NAN);
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> in the format of a given profile to the bits of the nearest bfloat16
+     * value, i.e. a float with 8 significand bits, ties to even (B16).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param profile The decimal marks, grouping separators, signs and whitespace handling of the format.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted floating point value, the error index.
+     * @return The bfloat16 encoding or {@link #BFLOAT16_NAN} if the range does not represent a properly
+     * formatted floating point value.
+     */
+    public static short parseBFloat16(CharSequence s, int start, int end, NumberSyntax profile, ParsePosition pos) {
+
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, pos);
+
+        if (result == null) {
+            return BFLOAT16_NAN;
+        }
+
+        if (pos != null) {
+            pos.setIndex(end);
+        }
+        return toBinary16(result, BFLOAT16_SIGNIFICAND_WIDTH, BFLOAT16_EXP_BIAS, BFLOAT16_NAN);
+    }
+
+    /**
+     * Rounds a scanned value to a 16 bit binary format (B16).
+     * <p>
+     * Every midpoint between two values of the format is a double. If the nearest double is not
+     * a midpoint, the exact value is on the same side of every midpoint, so rounding the double
+     * can't round twice. Otherwise the digits are compared with the midpoint, a hexadecimal value
+     * knows the direction in which its double was rounded.
+     * </p>
+     *
+     * @param significandWidth The number of significand bits, including the implicit bit.
+     * @param expBias The exponent bias of the format.
+     * @param nan The encoding of NaN.
+     */
+    private static short toBinary16(ASCIIToBinaryConverter value, int significandWidth, int expBias, short nan) {
+        double dValue = value.doubleValue();
+        if (dValue != dValue) {
+            return nan;
+        }
+        final int sign = (Double.doubleToRawLongBits(dValue) < 0L) ? 0x8000 : 0;
+        final double abs = Math.abs(dValue);
+        final long infinity = (long) (2 * expBias + 1) << (significandWidth - 1);
+        if (abs == Double.POSITIVE_INFINITY) {
+            return (short) (sign | infinity);
+        }
+        // the exponent of the format, subnormal values share the smallest normal exponent
+        final int exponent = Math.max(Math.getExponent(abs), 1 - expBias);
+        // the significand in units of the last place, exact as it has at most 53 bits
+        final double scaled = Math.scalb(abs, significandWidth - 1 - exponent);
+        long significand = (long) scaled;
+        final double fraction = scaled - significand;
+        if (fraction > 0.5d) {
+            significand++;
+        } else if (fraction == 0.5d) {
+            int cmp = (value instanceof ASCIIToBinaryBuffer) ? ((ASCIIToBinaryBuffer) value).compareMagnitude(abs)
+                    : ((PreparedASCIIToBinaryBuffer) value).compareMagnitude();
+            if (cmp > 0 || (cmp == 0 && (significand & 1L) != 0L)) {
+                significand++;
+            }
+        }
+        // a carry out of the significand increments the exponent, a subnormal significand has a zero exponent
+        final long bits = ((long) (exponent + expBias - 1) << (significandWidth - 1)) + significand;
+        return (short) (sign | Math.min(bits, infinity));
+    }
+
+    /**
+     * Converts the longest number at the index <code>start</code> of a <code>CharSequence</code> in
+     * the format of a given profile to a double precision floating point value, e.g. "1.5" of
+     * "1.5]" (PREFIX).
+     * <p>
+     * The number is the longest sequence of characters accepted by parseDouble(), but whitespace is
+     * never skipped.
+     * </p>
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character of the number.
+     * @param end The index after the last character which may be part of the number.
+     * @param profile The decimal marks, grouping separators and signs of the format.
+     * @param pos Receives the index after the number or, if there is no number at <code>start</code>,
+     * the error index.
+     * @return The double precision value or <code>NaN</code> if there is no number at <code>start</code>.
+     */
+    public static double parseDoublePrefix(CharSequence s, int start, int end, NumberSyntax profile,
+            ParsePosition pos) {
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, true, pos);
+        return (result == null) ? Double.NaN : result.doubleValue();
+    }
+
+    /**
+     * Converts the longest number at the index <code>start</code> of a <code>CharSequence</code> in
+     * the format of a given profile to a single precision floating point value, see
+     * parseDoublePrefix() (PREFIX).
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character of the number.
+     * @param end The index after the last character which may be part of the number.
+     * @param profile The decimal marks, grouping separators and signs of the format.
+     * @param pos Receives the index after the number or, if there is no number at <code>start</code>,
+     * the error index.
+     * @return The single precision value or <code>NaN</code> if there is no number at <code>start</code>.
+     */
+    public static float parseFloatPrefix(CharSequence s, int start, int end, NumberSyntax profile,
+            ParsePosition pos) {
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, true, pos);
+        return (result == null) ? Float.NaN : result.floatValue();
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> to a double precision floating point value which differs from the
+     * correctly rounded value by at most one ulp (APPROX).
+     * <p>
+     * The grammar is the grammar of parseDouble(). Values which are not exact doubles are converted
+     * from their first 19 digits by a single 64 bit multiplication with a power of five, without the
+     * big number arithmetic which decides the rounding of values very close to the midpoint between
+     * two doubles.
+     * </p>
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param pos Optionally receives the index after the converted value or, if the range does not
+     * represent a properly formatted double precision value, the error index.
+     * @return The double precision value or <code>NaN</code> if the range does not
+     * represent a properly formatted double precision value.
+     */
+    public static double parseDoubleApproximate(CharSequence s, int start, int end, ParsePosition pos) {
+
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, NumberSyntax.DEFAULT, pos);
+
+        if (result == null) {
+            return Double.NaN;
+        }
+
+        if (pos != null) {
+            pos.setIndex(end);
+        }
+        return (result instanceof ASCIIToBinaryBuffer) ? ((ASCIIToBinaryBuffer) result).approximateDoubleValue()
+                : result.doubleValue();
+    }
+
+    /**
+     * Checks whether the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> are accepted by readJavaFormatString() in the format of a given profile, without
+     * storing any digits or converting the value (VALID). Only the lenient grammar is checked, the strict grammars
+     * of the JSON and Java profiles are not.
+     *
+     * @param s The <code>CharSequence</code> to check.
+     * @param start The index of the first character to check.
+     * @param end The index after the last character to check.
+     * @param profile The decimal marks, grouping separators, signs and whitespace handling of the format.
+     * @return <code>true</code> if the range represents a properly formatted floating point value.
+     */
+    public static boolean isValidJavaFormatString(CharSequence s, int start, int end, NumberSyntax profile) {
+        int i = start;
+        int len = end;
+        if (profile.isTrimmed()) {
+            while (i < len && s.charAt(i) <= ' ') {
+                i++;
+            }
+            while (len > i && s.charAt(len - 1) <= ' ') {
+                len--;
+            }
+        }
+        if (i >= len) {
+            return false;
+        }
+        final int numberStart = i;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            if (!profile.isSignAllowed(c)) {
+                return false;
+            }
+            i++;
+        }
+        final int digitsStart = i;
+        if (i >= len) {
+            return false;
+        }
+        c = s.charAt(i);
+        if (c == 'N') {
+            return (len - i) == NAN_LENGTH && regionMatches(s, i, NAN_REP);
+        } else if (c == 'I') {
+            return (len - i) == INFINITY_LENGTH && regionMatches(s, i, INFINITY_REP);
+        } else if (c == '0' && len > i + 1 && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            return hexNumberEnd(s, numberStart, len) == len;
+        }
+
+        boolean digitSeen = false;
+        boolean decSeen = false;
+        while (i < len) {
+            c = asciiDigit(s.charAt(i));
+            if (c >= '0' && c <= '9') {
+                digitSeen = true;
+            } else if (profile.isDecimalMark(c)) {
+                if (decSeen) {
+                    return false;
+                }
+                decSeen = true;
+            } else if (decSeen || !isGroupSeparator(s, i, digitsStart, len, profile)) {
+                break;
+            }
+            i++;
+        }
+        if (!digitSeen) {
+            return false;
+        }
+
+        if (i < len && ((c = s.charAt(i)) == 'e' || c == 'E')) {
+            i++;
+            if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            final int expAt = i;
+            while (i < len && isDigit(s.charAt(i))) {
+                i++;
+            }
+            if (i == expAt) {
+                return false;
+            }
+        }
+        return i == len || (i == len - 1 && ((c = s.charAt(i)) == 'f' || c == 'F' || c == 'd' || c == 'D'));
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code> (exclusive) of a
+     * <code>CharSequence</code> in the format of a given profile to the unscaled value of a fixed point
+     * number with <code>scale</code> fraction digits, e.g. "12.5" with a scale of 2 to 1250 (SCALE).
+     * <p>
+     * The number is scanned like a double by readJavaFormatString(), but only decimal numbers are
+     * valid, "NaN", "Infinity", hexadecimal numbers and a type suffix (f, F, d or D) are not. The
+     * value is exact, a number with a nonzero digit after the last fraction digit of the scale is not
+     * rounded but rejected.
+     * </p>
+     *
+     * @param s The <code>CharSequence</code> to convert.
+     * @param start The index of the first character to convert.
+     * @param end The index after the last character to convert.
+     * @param scale The number of fraction digits of the unscaled value, may be negative.
+     * @param profile The decimal marks, grouping separators, signs and whitespace handling of the format.
+     * @param pos Receives the index after the converted value or, if the conversion fails, the error
+     * index: the index of an invalid character or the index of the first significant digit which
+     * exceeds the range of a <code>long</code> or the scale.
+     * @return The unscaled value or, if an error index has been set, SCALED_INVALID, SCALED_OVERFLOW or
+     * SCALED_INEXACT.
+     */
+    public static long parseScaledLong(CharSequence s, int start, int end, int scale, NumberSyntax profile,
+            ParsePosition pos) {
+
+        int i = start;
+        if (profile.isTrimmed()) {
+            while (i < end && s.charAt(i) <= ' ') {
+                i++;
+            }
+        }
+        if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+            i++;
+        }
+        // a fixed point number has neither a special value nor a binary exponent
+        if (i < end && (s.charAt(i) == 'N' || s.charAt(i) == 'I'
+                || (s.charAt(i) == '0' && i + 1 < end && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')))) {
+            pos.setErrorIndex(i);
+            return SCALED_INVALID;
+        }
+
+        ASCIIToBinaryConverter result = readJavaFormatString(s, start, end, profile, pos);
+
+        if (result == null) {
+            return SCALED_INVALID;
+        }
+        // a fixed point number has no type, the suffix is the last character before trailing whitespace
+        int last = end - 1;
+        if (profile.isTrimmed()) {
+            while (s.charAt(last) <= ' ') {
+                last--;
+            }
+        }
+        if (isTypeSuffix(s.charAt(last))) {
+            pos.setErrorIndex(last);
+            return SCALED_INVALID;
+        }
+        if (!(result instanceof ASCIIToBinaryBuffer)) {
+            // zero
+            pos.setIndex(end);
+            return 0L;
+        }
+
+        ASCIIToBinaryBuffer buf = (ASCIIToBinaryBuffer) result;
+        final long nIntDigits = (long) buf.decExponent + scale;
+
+        if (nIntDigits > LONG_DECIMAL_DIGITS) {
+            pos.setErrorIndex(indexOfSignificantDigit(s, start, end, LONG_DECIMAL_DIGITS));
+            return SCALED_OVERFLOW;
+        }
+
+        // like Long.parseLong() we accumulate negatively, since the range of negative values is larger
+        final long limit = buf.isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplicationLimit = limit / 10;
+        long value = 0L;
+
+        for (int k = 0; k < nIntDigits; k++) {
+            int digit = (k < buf.nDigits) ? buf.digits[k] - '0' : 0;
+            if (value < multiplicationLimit || value * 10 < limit + digit) {
+                pos.setErrorIndex(indexOfSignificantDigit(s, start, end, k));
+                return SCALED_OVERFLOW;
+            }
+            value = value * 10 - digit;
+        }
+
+        // the last stored digit is never 0
+        if (buf.nDigits > nIntDigits) {
+            pos.setErrorIndex(indexOfSignificantDigit(s, start, end, (int) Math.max(nIntDigits, 0L)));
+            return SCALED_INEXACT;
+        }
+
+        pos.setIndex(end);
+        return buf.isNegative ? value : -value;
+    }
+
+    /**
+     * Returns the index of the significant digit <code>k</code> (counted from 0 at the first nonzero
+     * digit) of a number which has been scanned by readJavaFormatString(), or the index of the last
+     * digit of the significand if it has fewer digits (SCALE).
+     */
+    private static int indexOfSignificantDigit(CharSequence s, int start, int end, int k) {
+        int count = -1;
+        int lastDigit = start;
+        for (int i = start; i < end; i++) {
+            char c = asciiDigit(s.charAt(i));
+            if (c >= '0' && c <= '9') {
+                if (count >= 0 || c != '0') {
+                    if (++count == k) {
+                        return i;
+                    }
+                }
+                lastDigit = i;
+            } else if (c == 'e' || c == 'E' || c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+                break;
+            }
+        }
+        return lastDigit;
+    }
+
+    /**
+     * Records the index of an invalid character in <code>pos</code> (if any) and returns <code>null</code>.
+     */
+    private static ASCIIToBinaryConverter invalid(ParsePosition pos, int errorIndex) {
+        if (pos != null) {
+            pos.setErrorIndex(errorIndex);
+        }
+        return null;
+    }
+
     /**
      * A converter which can process single or double precision floating point
      * values into an ASCII <code>String</code> representation.
@@ -314,6 +902,14 @@ public class FloatingDecimal{
         // at the end of the conversion process, i.e. roundUp() method was called.
         private boolean decimalDigitsRoundedUp = false;
 
+        // The mutable working set of dtoa(), reused by every conversion of this
+        // thread (ARENA). Created lazily, as most values don't need it.
+        private FDBigInteger bigS;
+        private FDBigInteger bigB;
+        private FDBigInteger bigM;
+        private FDBigInteger bigTenS;
+        private FDBigInteger bigSum;
+
         /**
          * Default constructor; used for non-zero values,
          * <code>BinaryToASCIIBuffer</code> may be thread-local and reused
@@ -744,14 +1340,21 @@ public class FloatingDecimal{
                 // We really must do FDBigInteger arithmetic.
                 // Fist, construct our FDBigInteger initial values.
                 //
-                FDBigInteger Sval = FDBigInteger.valueOfPow52(S5, S2);
+                if (bigS == null) { // (ARENA)
+                    bigS = new FDBigInteger();
+                    bigB = new FDBigInteger();
+                    bigM = new FDBigInteger();
+                    bigTenS = new FDBigInteger();
+                    bigSum = new FDBigInteger();
+                }
+                FDBigInteger Sval = bigS.setMulPow52(1L, S5, S2);
                 int shiftBias = Sval.getNormalizationBias();
                 Sval = Sval.leftShift(shiftBias); // normalize so that division works better
 
-                FDBigInteger Bval = FDBigInteger.valueOfMulPow52(fractBits, B5, B2 + shiftBias);
-                FDBigInteger Mval = FDBigInteger.valueOfPow52(M5 + 1, M2 + shiftBias + 1);
+                FDBigInteger Bval = bigB.setMulPow52(fractBits, B5, B2 + shiftBias);
+                FDBigInteger Mval = bigM.setMulPow52(1L, M5 + 1, M2 + shiftBias + 1);
 
-                FDBigInteger tenSval = FDBigInteger.valueOfPow52(S5 + 1, S2 + shiftBias + 1); //Sval.mult( 10 );
+                FDBigInteger tenSval = bigTenS.setMulPow52(1L, S5 + 1, S2 + shiftBias + 1); //Sval.mult( 10 );
                 //
                 // Unroll the first iteration. If our decExp estimate
                 // was too high, our first quotient will be zero. In this
@@ -760,7 +1363,7 @@ public class FloatingDecimal{
                 ndigit = 0;
                 q = Bval.quoRemIteration( Sval );
                 low  = (Bval.cmp( Mval ) < 0);
-                high = tenSval.addAndCmp(Bval,Mval)<=0;
+                high = tenSval.addAndCmp(Bval,Mval,bigSum)<=0;
 
                 assert q < 10 : q; // excessively large digit
                 if ( (q == 0) && ! high ){
@@ -783,7 +1386,7 @@ public class FloatingDecimal{
                     assert q < 10 : q;  // excessively large digit
                     Mval = Mval.multBy10(); //Mval = Mval.mult( 10 );
                     low  = (Bval.cmp( Mval ) < 0);
-                    high = tenSval.addAndCmp(Bval,Mval)<=0;
+                    high = tenSval.addAndCmp(Bval,Mval,bigSum)<=0;
                     digits[ndigit++] = (char)('0' + q);
                 }
                 if ( high && low ){
@@ -1023,6 +1626,18 @@ public class FloatingDecimal{
         return threadLocalBinaryToASCIIBuffer.get();
     }
 
+    private static final ThreadLocal<ASCIIToBinaryBuffer> threadLocalASCIIToBinaryBuffer =
+            new ThreadLocal<ASCIIToBinaryBuffer>() {
+                @Override
+                protected ASCIIToBinaryBuffer initialValue() {
+                    return new ASCIIToBinaryBuffer();
+                }
+            };
+
+    private static ASCIIToBinaryBuffer getASCIIToBinaryBuffer() {
+        return threadLocalASCIIToBinaryBuffer.get();
+    }
+
     /**
      * A converter which can process an ASCII <code>String</code> representation
      * of a single or double precision floating point value into a
@@ -1042,10 +1657,32 @@ public class FloatingDecimal{
     static class PreparedASCIIToBinaryBuffer implements ASCIIToBinaryConverter {
         final private double doubleVal;
         final private float floatVal;
+        final private int roundingRemainder;
 
         public PreparedASCIIToBinaryBuffer(double doubleVal, float floatVal) {
+            this(doubleVal, floatVal, 0);
+        }
+
+        /**
+         * @param roundingRemainder a negative number, zero or a positive number if
+         * the exact absolute value is less than, equal to or greater than the
+         * absolute value of <code>doubleVal</code> (B16).
+         */
+        PreparedASCIIToBinaryBuffer(double doubleVal, float floatVal, int roundingRemainder) {
             this.doubleVal = doubleVal;
             this.floatVal = floatVal;
+            this.roundingRemainder = roundingRemainder;
+        }
+
+        /**
+         * Compares the exact absolute value with the absolute value of the
+         * double, i.e. the direction in which the double was rounded (B16).
+         *
+         * @return a negative number, zero or a positive number if the
+         * absolute value is less than, equal to or greater than the double.
+         */
+        int compareMagnitude() {
+            return roundingRemainder;
         }
 
         @Override
@@ -1067,19 +1704,183 @@ public class FloatingDecimal{
 
     /**
      * A buffered implementation of <code>ASCIIToBinaryConverter</code>.
+     *
+     * A single instance per thread is reused by readJavaFormatString(), see
+     * getASCIIToBinaryBuffer(). Thus the common path of parsing a number
+     * does not allocate anything (ALLOC).
      */
     static class ASCIIToBinaryBuffer implements ASCIIToBinaryConverter {
+
+        /**
+         * The reusable digit array, the scanner stores at most MAX_NDIGITS
+         * digits and a sticky digit for the remaining digits (CAP).
+         */
+        private final char[] buffer = new char[MAX_NDIGITS + 1];
+
+        /**
+         * The mutable working set of the correction loops of doubleValue()
+         * and floatValue(), reused by every conversion of this thread (ARENA).
+         */
+        private final FDBigInteger bigDigits = new FDBigInteger();
+        private final FDBigInteger bigD0 = new FDBigInteger();
+        private final FDBigInteger bigD = new FDBigInteger();
+        private final FDBigInteger bigB = new FDBigInteger();
+        private final FDBigInteger bigPow = new FDBigInteger();
+
         boolean     isNegative;
         int         decExponent;
         char        digits[];
         int         nDigits;
 
-        ASCIIToBinaryBuffer( boolean negSign, int decExponent, char[] digits, int n)
-        {
+        /**
+         * The value of the first nSignificandDigits digits (including
+         * trailing zeros), 0 digits if the number has more than 19
+         * significant digits (ALLOC).
+         */
+        long        significand;
+        int         nSignificandDigits;
+
+        ASCIIToBinaryBuffer set(boolean negSign, int decExponent, char[] digits, int n, long significand, int nSignificandDigits) {
             this.isNegative = negSign;
             this.decExponent = decExponent;
             this.digits = digits;
             this.nDigits = n;
+            this.significand = significand;
+            this.nSignificandDigits = nSignificandDigits;
+            return this;
+        }
+
+        /**
+         * Converts a significand of up to 19 digits with a single
+         * operation if the significand and the power of ten are exact
+         * doubles, otherwise with the Eisel-Lemire algorithm (EL).
+         *
+         * @return the absolute value or <code>NaN</code> if the value
+         * has to be determined by big number arithmetic.
+         */
+        private double fastDoubleValue() {
+            double dValue = exactDoubleValue();
+            if (dValue == dValue) { // not NaN
+                return dValue;
+            }
+            long bits = EiselLemire.toDoubleBits(significand, decExponent - nSignificandDigits);
+            return (bits != EiselLemire.UNDECIDED) ? Double.longBitsToDouble(bits) : Double.NaN;
+        }
+
+        /**
+         * @return the correctly rounded absolute value if it can be
+         * computed with a single operation on exact doubles or
+         * <code>NaN</code> otherwise.
+         */
+        private double exactDoubleValue() {
+            int exp = decExponent - nSignificandDigits;
+            if (nSignificandDigits <= MAX_DECIMAL_DIGITS) {
+                double dValue = (double) significand;
+                if (exp == 0) {
+                    return dValue;
+                } else if (exp > 0) {
+                    if (exp <= MAX_SMALL_TEN) {
+                        return dValue * SMALL_10_POW[exp];
+                    }
+                    int slop = MAX_DECIMAL_DIGITS - nSignificandDigits;
+                    if (exp <= MAX_SMALL_TEN + slop) {
+                        return (dValue * SMALL_10_POW[slop]) * SMALL_10_POW[exp - slop];
+                    }
+                } else if (exp >= -MAX_SMALL_TEN) {
+                    return dValue / SMALL_10_POW[-exp];
+                }
+            }
+            return Double.NaN;
+        }
+
+        /**
+         * Converts a significand of up to 19 digits into a float without
+         * the big number arithmetic of the double oriented loop (FLT):
+         * <ul>
+         * <li>with a single operation if the significand and the power of
+         * ten are exact floats</li>
+         * <li>with a single operation on exact doubles, unless the double
+         * is exactly halfway between two floats. Otherwise the nearest
+         * double and the exact value are on the same side of every float
+         * midpoint, so narrowing the double can't round twice.</li>
+         * <li>with the 32 bit variant of the Eisel-Lemire algorithm</li>
+         * </ul>
+         *
+         * @return the absolute value or <code>NaN</code> if the value
+         * has to be determined by big number arithmetic.
+         */
+        private float fastFloatValue() {
+            int exp = decExponent - nSignificandDigits;
+            if (nSignificandDigits <= SINGLE_MAX_DECIMAL_DIGITS) {
+                float fValue = (float) significand;
+                if (exp == 0) {
+                    return fValue;
+                } else if (exp > 0) {
+                    if (exp <= SINGLE_MAX_SMALL_TEN) {
+                        return fValue * SINGLE_SMALL_10_POW[exp];
+                    }
+                } else if (exp >= -SINGLE_MAX_SMALL_TEN) {
+                    return fValue / SINGLE_SMALL_10_POW[-exp];
+                }
+            }
+            // all exact doubles are within the range of normal floats
+            double dValue = exactDoubleValue();
+            if (dValue == dValue
+                    && (Double.doubleToRawLongBits(dValue) & FLOAT_ROUNDING_MASK) != FLOAT_HALFWAY_BITS) {
+                return (float) dValue;
+            }
+            int bits = EiselLemire.toFloatBits(significand, exp);
+            return (bits != (int) EiselLemire.UNDECIDED) ? Float.intBitsToFloat(bits) : Float.NaN;
+        }
+
+        /**
+         * Converts the first 19 digits with the 64 bit variant of the
+         * Eisel-Lemire algorithm, unless the value is an exact double
+         * operation (APPROX).
+         *
+         * @return the value, at most one ulp away from doubleValue().
+         */
+        double approximateDoubleValue() {
+            long w = significand;
+            int nW = nSignificandDigits;
+            if (nW > 0) {
+                double dValue = exactDoubleValue();
+                if (dValue == dValue) { // not NaN
+                    return (isNegative) ? -dValue : dValue;
+                }
+            } else {
+                // truncated to the first 19 digits
+                nW = EiselLemire.MAX_DIGITS;
+                w = 0L;
+                for (int k = 0; k < nW; k++) {
+                    w = w * 10L + (digits[k] - '0');
+                }
+            }
+            double dValue = Double.longBitsToDouble(EiselLemire.toDoubleBitsApproximate(w, decExponent - nW));
+            return (isNegative) ? -dValue : dValue;
+        }
+
+        /**
+         * Compares the exact absolute value with a positive normal double,
+         * with the FDBigInteger working set of this thread (B16).
+         *
+         * @return a negative number, zero or a positive number if the
+         * absolute value is less than, equal to or greater than the double.
+         */
+        int compareMagnitude(double candidate) {
+            long bits = Double.doubleToRawLongBits(candidate);
+            long candidateBits = (bits & DoubleConsts.SIGNIF_BIT_MASK) | FRACT_HOB;
+            int binExp = (int) (bits >>> EXP_SHIFT) - DoubleConsts.EXP_BIAS - EXP_SHIFT;
+            int exp = decExponent - nDigits;
+            // digits * 5^exp * 2^exp compared with candidateBits * 2^binExp
+            int D5 = Math.max(0, exp);
+            int B5 = Math.max(0, -exp);
+            int D2 = D5 + Math.max(0, -binExp);
+            int B2 = B5 + Math.max(0, binExp);
+            int common2 = Math.min(D2, B2);
+            FDBigInteger bigDigits = this.bigDigits.setDigits(digits[0] - '0', digits, 1, nDigits);
+            FDBigInteger bigD = this.bigD0.setMulPow52(bigDigits, D5, D2 - common2);
+            return bigD.cmp(this.bigB.setMulPow52(candidateBits, B5, B2 - common2));
         }
 
         /**
@@ -1092,6 +1893,12 @@ public class FloatingDecimal{
          */
         @Override
         public double doubleValue() {
+            if (nSignificandDigits > 0) {
+                double rValue = fastDoubleValue();
+                if (rValue == rValue) { // not NaN
+                    return (isNegative) ? -rValue : rValue;
+                }
+            }
             int kDigits = Math.min(nDigits, MAX_DECIMAL_DIGITS + 1);
             //
             // convert the lead kDigits to a long integer.
@@ -1282,14 +2089,14 @@ public class FloatingDecimal{
                 nDigits = MAX_NDIGITS + 1;
                 digits[MAX_NDIGITS] = '1';
             }
-            FDBigInteger bigD0 = new FDBigInteger(lValue, digits, kDigits, nDigits);
+            FDBigInteger bigD0 = this.bigD0; // (ARENA)
+            FDBigInteger bigDigits = this.bigDigits.setDigits(lValue, digits, kDigits, nDigits);
             exp = decExponent - nDigits;
 
             long ieeeBits = Double.doubleToRawLongBits(dValue); // IEEE-754 bits of double candidate
             final int B5 = Math.max(0, -exp); // powers of 5 in bigB, value is not modified inside correctionLoop
             final int D5 = Math.max(0, exp); // powers of 5 in bigD, value is not modified inside correctionLoop
-            bigD0 = bigD0.multByPow52(D5, 0);
-            bigD0.makeImmutable();   // prevent bigD0 modification inside correctionLoop
+            bigD0.setMulPow52(bigDigits, D5, 0); // bigD0 is not modified inside correctionLoop
             FDBigInteger bigD = null;
             int prevD2 = 0;
 
@@ -1351,9 +2158,9 @@ public class FloatingDecimal{
                 D2 -= common2;
                 Ulp2 -= common2;
                 // do multiplications by powers of 5 and 2
-                FDBigInteger bigB = FDBigInteger.valueOfMulPow52(bigBbits, B5, B2);
+                FDBigInteger bigB = this.bigB.setMulPow52(bigBbits, B5, B2); // (ARENA)
                 if (bigD == null || prevD2 != D2) {
-                    bigD = bigD0.leftShift(D2);
+                    bigD = this.bigD.setMulPow52(bigD0, 0, D2);
                     prevD2 = D2;
                 }
                 //
@@ -1397,7 +2204,7 @@ public class FloatingDecimal{
                     // this happens with surprising frequency
                     break correctionLoop;
                 }
-                cmpResult = diff.cmpPow52(B5, Ulp2);
+                cmpResult = diff.cmpPow52(B5, Ulp2, bigPow);
                 if ((cmpResult) < 0) {
                     // difference is small.
                     // this is close enough
@@ -1439,6 +2246,12 @@ public class FloatingDecimal{
          */
         @Override
         public float floatValue() {
+            if (nSignificandDigits > 0) {
+                float rValue = fastFloatValue();
+                if (rValue == rValue) { // not NaN
+                    return (isNegative) ? -rValue : rValue;
+                }
+            }
             int kDigits = Math.min(nDigits, SINGLE_MAX_DECIMAL_DIGITS + 1);
             //
             // convert the lead kDigits to an integer.
@@ -1588,14 +2401,14 @@ public class FloatingDecimal{
                 nDigits = SINGLE_MAX_NDIGITS + 1;
                 digits[SINGLE_MAX_NDIGITS] = '1';
             }
-            FDBigInteger bigD0 = new FDBigInteger(iValue, digits, kDigits, nDigits);
+            FDBigInteger bigD0 = this.bigD0; // (ARENA)
+            FDBigInteger bigDigits = this.bigDigits.setDigits(iValue, digits, kDigits, nDigits);
             exp = decExponent - nDigits;
 
             int ieeeBits = Float.floatToRawIntBits(fValue); // IEEE-754 bits of float candidate
             final int B5 = Math.max(0, -exp); // powers of 5 in bigB, value is not modified inside correctionLoop
             final int D5 = Math.max(0, exp); // powers of 5 in bigD, value is not modified inside correctionLoop
-            bigD0 = bigD0.multByPow52(D5, 0);
-            bigD0.makeImmutable();   // prevent bigD0 modification inside correctionLoop
+            bigD0.setMulPow52(bigDigits, D5, 0); // bigD0 is not modified inside correctionLoop
             FDBigInteger bigD = null;
             int prevD2 = 0;
 
@@ -1657,9 +2470,9 @@ public class FloatingDecimal{
                 D2 -= common2;
                 Ulp2 -= common2;
                 // do multiplications by powers of 5 and 2
-                FDBigInteger bigB = FDBigInteger.valueOfMulPow52(bigBbits, B5, B2);
+                FDBigInteger bigB = this.bigB.setMulPow52(bigBbits, B5, B2); // (ARENA)
                 if (bigD == null || prevD2 != D2) {
-                    bigD = bigD0.leftShift(D2);
+                    bigD = this.bigD.setMulPow52(bigD0, 0, D2);
                     prevD2 = D2;
                 }
                 //
@@ -1703,7 +2516,7 @@ public class FloatingDecimal{
                     // this happens with surprising frequency
                     break correctionLoop;
                 }
-                cmpResult = diff.cmpPow52(B5, Ulp2);
+                cmpResult = diff.cmpPow52(B5, Ulp2, bigPow);
                 if ((cmpResult) < 0) {
                     // difference is small.
                     // this is close enough
@@ -1762,6 +2575,14 @@ public class FloatingDecimal{
         private static final int MAX_SMALL_TEN = SMALL_10_POW.length-1;
         private static final int SINGLE_MAX_SMALL_TEN = SINGLE_SMALL_10_POW.length-1;
 
+        /**
+         * The double significand bits which are dropped when a normal
+         * double is narrowed to a float, and their value if the double is
+         * exactly halfway between two floats.
+         */
+        private static final long FLOAT_ROUNDING_MASK = (1L << (DoubleConsts.SIGNIFICAND_WIDTH - FloatConsts.SIGNIFICAND_WIDTH)) - 1;
+        private static final long FLOAT_HALFWAY_BITS = 1L << (DoubleConsts.SIGNIFICAND_WIDTH - FloatConsts.SIGNIFICAND_WIDTH - 1);
+
     }
 
     /**
@@ -1863,44 +2684,70 @@ public class FloatingDecimal{
         return buf;
     }
 
+    static ASCIIToBinaryConverter readJavaFormatString( CharSequence in, int start, int end, NumberSyntax profile, ParsePosition pos ) {
+        return readJavaFormatString(in, start, end, profile, false, pos);
+    }
+
+    /**
+     * @param prefix <code>false</code> if the whole range must be a number, <code>true</code> to
+     * convert the longest number at <code>start</code>, without skipping whitespace. The index after
+     * the number is stored in <code>pos</code>, which must not be <code>null</code> (PREFIX).
+     */
     @SuppressWarnings("fallthrough")
-    static ASCIIToBinaryConverter readJavaFormatString( String in ) {
+    static ASCIIToBinaryConverter readJavaFormatString( CharSequence in, int start, int end, NumberSyntax profile, boolean prefix, ParsePosition pos ) {
+        if (profile.getGrammar() != NumberSyntax.LENIENT) {
+            return readStrictFormatString(in, start, end, profile.getGrammar() == NumberSyntax.JSON, prefix, pos); // (GRAM)
+        }
         boolean isNegative = false;
-        boolean signSeen   = false;
         int     decExp;
         char    c;
+        int     i = start;
 
     parseNumber:
        try {
-            in = in.trim();
-
-            int len = in.length();
-            if ( len == 0 ) {
-                return null;
+            // skip the characters which would be removed by trim() (RANGE), unless the profile disallows whitespace (PROF)
+            int len = end;
+            if (profile.isTrimmed() && !prefix) {
+                while (i < len && in.charAt(i) <= ' ') {
+                    i++;
+                }
+                while (len > i && in.charAt(len - 1) <= ' ') {
+                    len--;
+                }
             }
-            int i = 0;
-            switch (in.charAt(i)){
-            case '-':
-                isNegative = true;
-                //FALLTHROUGH
-            case '+':
+            if ( i >= len ) {
+                break parseNumber;
+            }
+            final int numberStart = i;
+            c = in.charAt(i);
+            if (c == '-' || c == '+') {
+                if (!profile.isSignAllowed(c)) { // (PROF)
+                    break parseNumber;
+                }
+                isNegative = (c == '-');
                 i++;
-                signSeen = true;
             }
+            final int digitsStart = i; // index after an optional sign, decPt is relative to it (RANGE)
 
             if (i >= len) { // potential StringIndexOutOfBoundsException (SIOOB2)
-            	return A2BC_NOT_A_NUMBER;
+                break parseNumber;
             }
 
             c = in.charAt(i);
             if(c == 'N') { // Check for NaN
-                if((len-i)==NAN_LENGTH && in.indexOf(NAN_REP,i)==i) {
+                if((prefix ? (len-i)>=NAN_LENGTH : (len-i)==NAN_LENGTH) && regionMatches(in, i, NAN_REP)) {
+                    if (prefix) {
+                        pos.setIndex(i + NAN_LENGTH);
+                    }
                     return A2BC_NOT_A_NUMBER;
                 }
                 // something went wrong, throw exception
                 break parseNumber;
             } else if(c == 'I') { // Check for Infinity strings
-                if((len-i)==INFINITY_LENGTH && in.indexOf(INFINITY_REP,i)==i) {
+                if((prefix ? (len-i)>=INFINITY_LENGTH : (len-i)==INFINITY_LENGTH) && regionMatches(in, i, INFINITY_REP)) {
+                    if (prefix) {
+                        pos.setIndex(i + INFINITY_LENGTH);
+                    }
                     return isNegative? A2BC_NEGATIVE_INFINITY : A2BC_POSITIVE_INFINITY;
                 }
                 // something went wrong, throw exception
@@ -1908,34 +2755,52 @@ public class FloatingDecimal{
             } else if (c == '0')  { // check for hexadecimal floating-point number
                 if (len > i+1 ) { // potential StringIndexOutOfBoundsException (SIOOB2)
                     char ch = in.charAt(i+1);
-                    if (ch == 'x' || ch == 'X' ) { // possible hex string
-                        return parseHexString(in);
+                    if ((ch == 'x' || ch == 'X') && prefix) {
+                        // without a complete hex number the longest number is the leading zero (PREFIX)
+                        int hexEnd = hexNumberEnd(in, numberStart, len);
+                        if (hexEnd >= 0) {
+                            pos.setIndex(hexEnd);
+                            return parseHexString(in, numberStart, hexEnd);
+                        }
+                    } else if (ch == 'x' || ch == 'X' ) { // possible hex string
+                        ASCIIToBinaryConverter hex = parseHexString(in, numberStart, len); // (HEX)
+                        if (hex == null) {
+                            // the hex grammar is matched as a whole, report the start of the number (POS)
+                            i = numberStart;
+                            break parseNumber;
+                        }
+                        return hex;
                     }
                 }
             }  // look for and process decimal floating-point string
 
-            char[] digits = new char[ len ];
+            ASCIIToBinaryBuffer buf = getASCIIToBinaryBuffer(); // (ALLOC)
+            char[] digits = buf.buffer;
             int    nDigits= 0;
+            long   significand = 0L; // value of the first 19 digits (ALLOC)
             boolean decSeen = false;
             int decPt = 0;
             int nLeadZero = 0;
             int nTrailZero= 0;
+            int nGroupSep = 0; // grouping separators are not counted by decPt (PROF)
 
         skipLeadingZerosLoop:
             while (i < len) {
-                c = in.charAt(i);
+                c = asciiDigit(in.charAt(i)); // (UNI)
                 if (c == '0') {
                     nLeadZero++;
-                } else if (c == '.' || c == ',') {
+                } else if (profile.isDecimalMark(c)) { // (DECM) (PROF)
                     if (decSeen) {
                         // already saw one ., this is the 2nd.
-                        return null;
-                    }
-                    decPt = i;
-                    if (signSeen) {
-                        decPt -= 1;
+                        if (prefix) {
+                            break skipLeadingZerosLoop; // (PREFIX)
+                        }
+                        break parseNumber;
                     }
+                    decPt = i - digitsStart - nGroupSep;
                     decSeen = true;
+                } else if (!decSeen && isGroupSeparator(in, i, digitsStart, len, profile)) {
+                    nGroupSep++;
                 } else {
                     break skipLeadingZerosLoop;
                 }
@@ -1943,29 +2808,55 @@ public class FloatingDecimal{
             }
         digitLoop:
             while (i < len) {
-                c = in.charAt(i);
+                c = asciiDigit(in.charAt(i)); // (UNI)
                 if (c >= '1' && c <= '9') {
-                    digits[nDigits++] = c;
+                    if (nDigits < EiselLemire.MAX_DIGITS) {
+                        significand = significand * 10L + (c - '0');
+                    }
+                    if (nDigits <= MAX_NDIGITS) { // (CAP)
+                        digits[nDigits] = c;
+                    }
+                    nDigits++;
                     nTrailZero = 0;
                 } else if (c == '0') {
-                    digits[nDigits++] = c;
+                    if (nDigits < EiselLemire.MAX_DIGITS) {
+                        significand *= 10L;
+                    }
+                    if (nDigits <= MAX_NDIGITS) { // (CAP)
+                        digits[nDigits] = c;
+                    }
+                    nDigits++;
                     nTrailZero++;
-                } else if (c == '.' || c == ',') {  // (DECM)
+                } else if (profile.isDecimalMark(c)) {  // (DECM) (PROF)
                     if (decSeen) {
                         // already saw one ., this is the 2nd.
-                        return null;
-                    }
-                    decPt = i;
-                    if (signSeen) {
-                        decPt -= 1;
+                        if (prefix) {
+                            break digitLoop; // (PREFIX)
+                        }
+                        break parseNumber;
                     }
+                    decPt = i - digitsStart - nGroupSep;
                     decSeen = true;
+                } else if (!decSeen && isGroupSeparator(in, i, digitsStart, len, profile)) {
+                    nGroupSep++;
                 } else {
                     break digitLoop;
                 }
                 i++;
             }
+            int nSignificandDigits = nDigits;
             nDigits -=nTrailZero;
+            if (nSignificandDigits > EiselLemire.MAX_DIGITS) {
+                // only the trailing zeros don't fit into a long (ALLOC)
+                nSignificandDigits = 0;
+                if (nDigits <= EiselLemire.MAX_DIGITS) {
+                    significand = 0L;
+                    for (int k = 0; k < nDigits; k++) {
+                        significand = significand * 10L + (digits[k] - '0');
+                    }
+                    nSignificandDigits = nDigits;
+                }
+            }
             //
             // At this point, we've scanned all the digits and decimal
             // point we're going to see. Trim off leading and trailing
@@ -2006,16 +2897,16 @@ public class FloatingDecimal{
             //
             // Look for 'e' or 'E' and an optionally signed integer.
             //
-            if ( (i < len) &&  (((c = in.charAt(i) )=='e') || (c == 'E') ) ){
+            // an 'e' without exponent digits is not part of a prefix (PREFIX)
+            if ( (i < len) &&  (((c = in.charAt(i) )=='e') || (c == 'E') ) && (!prefix || hasExponentDigits(in, i + 1, len)) ){
                 int expSign = 1;
                 int expVal  = 0;
                 int reallyBig = Integer.MAX_VALUE / 10;
                 boolean expOverflow = false;
 
-                if (i+1 < len) {  // potential StringIndexOutOfBoundsException (SIOOB3)
-                	i++;
-                } else {
-                	return null;
+                i++;
+                if (i >= len) {  // potential StringIndexOutOfBoundsException (SIOOB3)
+                    break parseNumber;
                 }
 
                 switch( in.charAt(i) ){
@@ -2033,7 +2924,7 @@ public class FloatingDecimal{
                         // overflow.
                         expOverflow = true;
                     }
-                    c = in.charAt(i++);
+                    c = asciiDigit(in.charAt(i++)); // (UNI)
                     if(c>='0' && c<='9') {
                         expVal = expVal*10 + ( (int)c - (int)'0' );
                     } else {
@@ -2076,7 +2967,12 @@ public class FloatingDecimal{
             // We parsed everything we could.
             // If there are leftovers, then this is not good input!
             //
-            if ( i < len &&
+            if (prefix) {
+                if (i < len && isTypeSuffix(in.charAt(i))) {
+                    i++;
+                }
+                pos.setIndex(i); // (PREFIX)
+            } else if ( i < len &&
                 ((i != len - 1) ||
                 (in.charAt(i) != 'f' &&
                  in.charAt(i) != 'F' &&
@@ -2087,40 +2983,403 @@ public class FloatingDecimal{
             if(isZero) {
                 return isNegative ? A2BC_NEGATIVE_ZERO : A2BC_POSITIVE_ZERO;
             }
-            return new ASCIIToBinaryBuffer(isNegative, decExp, digits, nDigits);
+            if (nDigits > MAX_NDIGITS) {
+                // the last digit is not 0, thus the digits which have not been
+                // stored only feed a sticky nonzero digit (CAP)
+                nDigits = MAX_NDIGITS + 1;
+                digits[MAX_NDIGITS] = '1';
+            }
+            return buf.set(isNegative, decExp, digits, nDigits, significand, nSignificandDigits);
 
         } catch (StringIndexOutOfBoundsException e) {
         	assert false : "Unexpected StringIndexOutOfBoundsException parsing '" + in + "'"; //SIOOBE_ASSERT
         }
-        return null;
+        return invalid(pos, i);
     }
 
-    private static class HexFloatPattern {
-        /**
-         * Grammar is compatible with hexadecimal floating-point constants
-         * described in section 6.4.4.2 of the C99 specification.
-         */
-        private static final Pattern VALUE = Pattern.compile(
-                   //1           234                   56                7                   8      9
-                    "([-+])?0[xX](((\\p{XDigit}+)\\.?)|((\\p{XDigit}*)\\.(\\p{XDigit}+)))[pP]([-+])?(\\p{Digit}+)[fFdD]?"
-                    );
+    /**
+     * Scans the strict grammars of {@link NumberSyntax#JAVA} and {@link NumberSyntax#JSON} (GRAM).
+     * Only ASCII digits and '.' are accepted, the JSON rules (no '+', no leading zeros, a digit
+     * before and after the '.', no NaN, Infinity, hexadecimal numbers or suffix) are checked where
+     * the construct starts, outside of the digit loops. The digits are stored like readJavaFormatString()
+     * does.
+     *
+     * @param json <code>true</code> for the JSON grammar, <code>false</code> for the grammar of
+     * {@link Double#valueOf(String)}.
+     * @param prefix see readJavaFormatString(), whitespace is never skipped for a prefix.
+     */
+    @SuppressWarnings("fallthrough")
+    private static ASCIIToBinaryConverter readStrictFormatString( CharSequence in, int start, int end, boolean json, boolean prefix, ParsePosition pos ) {
+        int i = start;
+        int len = end;
+        if (!json && !prefix) {
+            while (i < len && in.charAt(i) <= ' ') {
+                i++;
+            }
+            while (len > i && in.charAt(len - 1) <= ' ') {
+                len--;
+            }
+        }
+        if (i >= len) {
+            return invalid(pos, i);
+        }
+        final int numberStart = i;
+        boolean isNegative = false;
+        char c = in.charAt(i);
+        if (c == '-' || (c == '+' && !json)) {
+            isNegative = (c == '-');
+            if (++i >= len) {
+                return invalid(pos, i);
+            }
+            c = in.charAt(i);
+        }
+        final int digitsStart = i;
+
+        if (json) {
+            if (!isAsciiDigit(c)) {
+                // the integer part is mandatory
+                return invalid(pos, i);
+            }
+            if (c == '0' && i + 1 < len && isAsciiDigit(in.charAt(i + 1))) {
+                // a leading zero is the whole integer part, the number of a prefix ends after it
+                if (!prefix) {
+                    return invalid(pos, i + 1);
+                }
+                len = i + 1;
+            }
+        } else if (c == 'N' || c == 'I') {
+            final String rep = (c == 'N') ? NAN_REP : INFINITY_REP;
+            if ((prefix ? (len - i) >= rep.length() : (len - i) == rep.length()) && regionMatches(in, i, rep)) {
+                if (prefix) {
+                    pos.setIndex(i + rep.length());
+                }
+                return (c == 'N') ? A2BC_NOT_A_NUMBER : isNegative ? A2BC_NEGATIVE_INFINITY : A2BC_POSITIVE_INFINITY;
+            }
+            return invalid(pos, i);
+        } else if (c == '0' && i + 1 < len && (in.charAt(i + 1) == 'x' || in.charAt(i + 1) == 'X')) {
+            int hexEnd = hexNumberEnd(in, numberStart, len);
+            if (hexEnd == len || (prefix && hexEnd >= 0)) {
+                if (prefix) {
+                    pos.setIndex(hexEnd);
+                }
+                return parseHexString(in, numberStart, hexEnd);
+            }
+            if (!prefix) {
+                return invalid(pos, numberStart);
+            }
+        }
+
+        ASCIIToBinaryBuffer buf = getASCIIToBinaryBuffer();
+        char[] digits = buf.buffer;
+        int nDigits = 0;
+        long significand = 0L;
+        boolean decSeen = false;
+        int decPt = 0;
+        int nLeadZero = 0;
+        int nTrailZero = 0;
+
+        for (boolean leadingZeros = true; i < len; i++) {
+            c = in.charAt(i);
+            if (c == '0') {
+                if (leadingZeros) {
+                    nLeadZero++;
+                    continue;
+                }
+                if (nDigits < EiselLemire.MAX_DIGITS) {
+                    significand *= 10L;
+                }
+                nTrailZero++;
+            } else if (c >= '1' && c <= '9') {
+                leadingZeros = false;
+                if (nDigits < EiselLemire.MAX_DIGITS) {
+                    significand = significand * 10L + (c - '0');
+                }
+                nTrailZero = 0;
+            } else if (c == '.' && !decSeen) {
+                if (json && (i + 1 >= len || !isAsciiDigit(in.charAt(i + 1)))) {
+                    // the fraction part needs a digit, the number of a prefix ends before the '.'
+                    if (!prefix) {
+                        return invalid(pos, i + 1);
+                    }
+                    break;
+                }
+                decPt = i - digitsStart;
+                decSeen = true;
+                continue;
+            } else {
+                break;
+            }
+            if (nDigits <= MAX_NDIGITS) { // (CAP)
+                digits[nDigits] = c;
+            }
+            nDigits++;
+        }
+        if (nDigits == 0 && nLeadZero == 0) {
+            return invalid(pos, i);
+        }
+        int nSignificandDigits = nDigits;
+        nDigits -= nTrailZero;
+        if (nSignificandDigits > EiselLemire.MAX_DIGITS) {
+            // only the trailing zeros don't fit into a long (ALLOC)
+            nSignificandDigits = 0;
+            if (nDigits <= EiselLemire.MAX_DIGITS) {
+                significand = 0L;
+                for (int k = 0; k < nDigits; k++) {
+                    significand = significand * 10L + (digits[k] - '0');
+                }
+                nSignificandDigits = nDigits;
+            }
+        }
+        int decExp = decSeen ? decPt - nLeadZero : nDigits + nTrailZero;
+
+        // an 'e' without exponent digits is not part of a prefix
+        if (i < len && ((c = in.charAt(i)) == 'e' || c == 'E') && (!prefix || hasAsciiExponentDigits(in, i + 1, len))) {
+            int expSign = 1;
+            int expVal = 0;
+            boolean expOverflow = false;
+            if (++i < len) {
+                switch (in.charAt(i)) {
+                case '-':
+                    expSign = -1;
+                    //FALLTHROUGH
+                case '+':
+                    i++;
+                }
+            }
+            final int expAt = i;
+            for (; i < len && isAsciiDigit(c = in.charAt(i)); i++) {
+                if (expVal >= Integer.MAX_VALUE / 10) {
+                    expOverflow = true;
+                }
+                expVal = expVal * 10 + (c - '0');
+            }
+            if (i == expAt) {
+                return invalid(pos, i);
+            }
+            int expLimit = BIG_DECIMAL_EXPONENT + nDigits + nTrailZero;
+            decExp = (expOverflow || expVal > expLimit) ? expSign * expLimit : decExp + expSign * expVal;
+        }
+
+        if (prefix) {
+            if (!json && i < len && isTypeSuffix(in.charAt(i))) {
+                i++;
+            }
+            pos.setIndex(i);
+        } else if (i < len && (json || i != len - 1 || !isTypeSuffix(in.charAt(i)))) {
+            return invalid(pos, i);
+        }
+        if (nDigits == 0) {
+            return isNegative ? A2BC_NEGATIVE_ZERO : A2BC_POSITIVE_ZERO;
+        }
+        if (nDigits > MAX_NDIGITS) { // (CAP)
+            nDigits = MAX_NDIGITS + 1;
+            digits[MAX_NDIGITS] = '1';
+        }
+        return buf.set(isNegative, decExp, digits, nDigits, significand, nSignificandDigits);
+    }
+
+    /**
+     * Returns <code>true</code> if an optional sign and at least one ASCII digit follow at <code>index</code> (GRAM).
+     */
+    private static boolean hasAsciiExponentDigits(CharSequence s, int index, int end) {
+        if (index < end && (s.charAt(index) == '-' || s.charAt(index) == '+')) {
+            index++;
+        }
+        return index < end && isAsciiDigit(s.charAt(index));
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns <code>true</code> if the character at <code>index</code> is a grouping separator of the profile between two
+     * ASCII digits within <code>start</code> and <code>end</code> (PROF).
+     */
+    private static boolean isGroupSeparator(CharSequence s, int index, int start, int end, NumberSyntax profile) {
+        return index > start && index + 1 < end && profile.isGroupingSeparator(s.charAt(index))
+                && isDigit(s.charAt(index - 1)) && isDigit(s.charAt(index + 1));
+    }
+
+    /**
+     * Returns <code>true</code> if an optional sign and at least one digit follow at <code>index</code> (PREFIX).
+     */
+    private static boolean hasExponentDigits(CharSequence s, int index, int end) {
+        if (index < end && (s.charAt(index) == '-' || s.charAt(index) == '+')) {
+            index++;
+        }
+        return index < end && isDigit(s.charAt(index));
+    }
+
+    private static boolean isDigit(char c) {
+        c = asciiDigit(c);
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Maps a Unicode decimal digit outside of ASCII, e.g. an arabic-indic or full-width digit, to the
+     * ASCII digit with the same value and returns any other character unchanged. An ASCII character
+     * costs a single comparison (UNI).
+     */
+    private static char asciiDigit(char c) {
+        if (c >= MIN_UNICODE_DIGIT) {
+            int digit = UnicodeDigits.digit(c);
+            if (digit >= 0) {
+                return (char) ('0' + digit);
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>s</code> contains the characters of <code>rep</code> at <code>offset</code>.
+     */
+    private static boolean regionMatches(CharSequence s, int offset, String rep) {
+        final int length = rep.length();
+        for (int i = 0; i < length; i++) {
+            if (s.charAt(offset + i) != rep.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Converts string s to a suitable floating decimal; uses the
-     * double constructor and sets the roundDir variable appropriately
+     * Matches the grammar of parseHexString() without converting the value (VALID) (PREFIX).
+     *
+     * @param s The <code>CharSequence</code> to check.
+     * @param start The index of the first character, i.e. the optional sign.
+     * @param end The index after the last character.
+     * @return The index after the longest hexadecimal floating-point number at <code>start</code>
+     * or <code>-1</code> if there is none.
+     */
+    private static int hexNumberEnd(CharSequence s, int start, int end) {
+        int pos = start;
+        if (pos < end && (s.charAt(pos) == '-' || s.charAt(pos) == '+')) {
+            pos++;
+        }
+        if (end - pos < 2 || s.charAt(pos) != '0' || (s.charAt(pos + 1) != 'x' && s.charAt(pos + 1) != 'X')) {
+            return -1;
+        }
+        pos += 2;
+        boolean digitSeen = false;
+        while (pos < end && hexDigit(s.charAt(pos)) >= 0) {
+            pos++;
+            digitSeen = true;
+        }
+        if (pos < end && s.charAt(pos) == '.') {
+            pos++;
+            while (pos < end && hexDigit(s.charAt(pos)) >= 0) {
+                pos++;
+                digitSeen = true;
+            }
+        }
+        if (!digitSeen || pos >= end || (s.charAt(pos) != 'p' && s.charAt(pos) != 'P')) {
+            return -1;
+        }
+        pos++;
+        if (pos < end && (s.charAt(pos) == '-' || s.charAt(pos) == '+')) {
+            pos++;
+        }
+        final int exponentStart = pos;
+        while (pos < end && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') {
+            pos++;
+        }
+        if (pos == exponentStart) {
+            return -1;
+        }
+        return (pos < end && isTypeSuffix(s.charAt(pos))) ? pos + 1 : pos;
+    }
+
+    private static boolean isTypeSuffix(char c) {
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    /**
+     * Converts the characters <code>start</code> (inclusive) to <code>end</code>
+     * (exclusive) of a <code>CharSequence</code> to a suitable floating decimal;
+     * uses the double constructor and sets the roundDir variable appropriately
      * in case the value is later converted to a float.
      *
-     * @param s The <code>String</code> to parse.
+     * The grammar is compatible with hexadecimal floating-point constants
+     * described in section 6.4.4.2 of the C99 specification, i.e. the former
+     * regular expression
+     * <code>([-+])?0[xX](((\p{XDigit}+)\.?)|((\p{XDigit}*)\.(\p{XDigit}+)))[pP]([-+])?(\p{Digit}+)[fFdD]?</code>,
+     * which is now matched by a hand-written scanner, without creating any
+     * sub-strings (HEX).
+     *
+     * @param s The <code>CharSequence</code> to parse.
+     * @param start The index of the first character, i.e. the optional sign.
+     * @param end The index after the last character.
+     * @return The converter or <code>null</code> if the range is not a
+     * hexadecimal floating-point number.
      */
-   static ASCIIToBinaryConverter parseHexString(String s) {
-            // Verify string is a member of the hexadecimal floating-point
+   static ASCIIToBinaryConverter parseHexString(CharSequence s, int start, int end) {
+            // Verify the range is a member of the hexadecimal floating-point
             // string language.
-            Matcher m = HexFloatPattern.VALUE.matcher(s);
-            boolean validInput = m.matches();
-            if (!validInput) {
+            int pos = start;
+            boolean isNegative = false;
+            if (pos < end && (s.charAt(pos) == '-' || s.charAt(pos) == '+')) {
+                isNegative = (s.charAt(pos) == '-');
+                pos++;
+            }
+            if (end - pos < 2 || s.charAt(pos) != '0' || (s.charAt(pos + 1) != 'x' && s.charAt(pos + 1) != 'X')) {
                 return null;
-            } else { // validInput
+            }
+            pos += 2;
+
+            // integer part, optional point and fraction part
+            final int intStart = pos;
+            while (pos < end && hexDigit(s.charAt(pos)) >= 0) {
+                pos++;
+            }
+            final int intEnd = pos;
+            int pointIndex = -1;
+            if (pos < end && s.charAt(pos) == '.') {
+                pointIndex = pos++;
+                while (pos < end && hexDigit(s.charAt(pos)) >= 0) {
+                    pos++;
+                }
+            }
+            final int fractionEnd = pos;
+            final int fractionDigits = (pointIndex < 0) ? 0 : fractionEnd - pointIndex - 1;
+            if (intEnd == intStart && fractionDigits == 0) {
+                return null;
+            }
+
+            // binary exponent
+            if (pos >= end || (s.charAt(pos) != 'p' && s.charAt(pos) != 'P')) {
+                return null;
+            }
+            pos++;
+            boolean positiveExponent = true;
+            if (pos < end && (s.charAt(pos) == '-' || s.charAt(pos) == '+')) {
+                positiveExponent = (s.charAt(pos) == '+');
+                pos++;
+            }
+            final int exponentStart = pos;
+            long unsignedRawExponent = 0L;
+            boolean exponentOverflow = false;
+            while (pos < end && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') {
+                if (!exponentOverflow) {
+                    unsignedRawExponent = unsignedRawExponent * 10L + (s.charAt(pos) - '0');
+                    exponentOverflow = (unsignedRawExponent > Integer.MAX_VALUE);
+                }
+                pos++;
+            }
+            if (pos == exponentStart) {
+                return null;
+            }
+
+            // optional type suffix
+            if (pos < end) {
+                char c = s.charAt(pos);
+                if (pos != end - 1 || (c != 'f' && c != 'F' && c != 'd' && c != 'D')) {
+                    return null;
+                }
+            }
+
+            {
                 //
                 // We must isolate the sign, significand, and exponent
                 // fields.  The sign value is straightforward.  Since
@@ -2144,9 +3403,6 @@ public class FloatingDecimal{
                 // round and sticky bits which are used to round the final
                 // value.
                 //
-                //  Extract significand sign
-                String group1 = m.group(1);
-                boolean isNegative = ((group1 != null) && group1.equals("-"));
 
                 //  Extract Significand magnitude
                 //
@@ -2176,52 +3432,29 @@ public class FloatingDecimal{
                 // If the significand is exactly zero, return a properly
                 // signed zero.
                 //
+                // The significand digits are the digits from the first
+                // nonzero digit up to fractionEnd, except the point (HEX).
+                //
 
-                String significandString = null;
+                int signifStart = intStart;
+                while (signifStart < fractionEnd && (s.charAt(signifStart) == '0' || signifStart == pointIndex)) {
+                    signifStart++;
+                }
                 int signifLength = 0;
                 int exponentAdjust = 0;
                 {
-                    int leftDigits = 0; // number of meaningful digits to
-                    // left of "decimal" point
+                    // number of meaningful digits to left of "decimal" point
                     // (leading zeros stripped)
-                    int rightDigits = 0; // number of digits to right of
-                    // "decimal" point; leading zeros
-                    // must always be accounted for
-                    //
-                    // The significand is made up of either
-                    //
-                    // 1. group 4 entirely (integer portion only)
-                    //
-                    // OR
-                    //
-                    // 2. the fractional portion from group 7 plus any
-                    // (optional) integer portions from group 6.
-                    //
-                    String group4;
-                    if ((group4 = m.group(4)) != null) {  // Integer-only significand
-                        // Leading zeros never matter on the integer portion
-                        significandString = stripLeadingZeros(group4);
-                        leftDigits = significandString.length();
-                    } else {
-                        // Group 6 is the optional integer; leading zeros
-                        // never matter on the integer portion
-                        String group6 = stripLeadingZeros(m.group(6));
-                        leftDigits = group6.length();
-
-                        // fraction
-                        String group7 = m.group(7);
-                        rightDigits = group7.length();
-
-                        // Turn "integer.fraction" into "integer"+"fraction"
-                        significandString =
-                                ((group6 == null) ? "" : group6) + // is the null
-                                        // check necessary?
-                                        group7;
+                    int leftDigits = (signifStart < intEnd) ? intEnd - signifStart : 0;
+                    // number of digits to right of "decimal" point; leading
+                    // zeros must always be accounted for
+                    int rightDigits = fractionDigits;
+
+                    signifLength = fractionEnd - signifStart;
+                    if (pointIndex >= signifStart) {
+                        signifLength--;
                     }
 
-                    significandString = stripLeadingZeros(significandString);
-                    signifLength = significandString.length();
-
                     //
                     // Adjust exponent as described above
                     //
@@ -2234,7 +3467,7 @@ public class FloatingDecimal{
                     // If the significand is zero, the exponent doesn't
                     // matter; return a properly signed zero.
 
-                    if (signifLength == 0) { // Only zeros in input
+                    if (signifLength <= 0) { // Only zeros in input
                         return isNegative ? A2BC_NEGATIVE_ZERO : A2BC_POSITIVE_ZERO;
                     }
                 }
@@ -2247,21 +3480,13 @@ public class FloatingDecimal{
                 // overflow, examine the sign of the exponent and
                 // significand to determine what to do.
                 //
-                String group8 = m.group(8);
-                boolean positiveExponent = (group8 == null) || group8.equals("+");
-                long unsignedRawExponent;
-                try {
-                    unsignedRawExponent = Integer.parseInt(m.group(9));
-                }
-                catch (NumberFormatException e) {
+                if (exponentOverflow) {
                     // At this point, we know the exponent is
                     // syntactically well-formed as a sequence of
-                    // digits.  Therefore, if an NumberFormatException
-                    // is thrown, it must be due to overflowing int's
-                    // range.  Also, at this point, we have already
-                    // checked for a zero significand.  Thus the signs
-                    // of the exponent and significand determine the
-                    // final result:
+                    // digits.  Therefore, if it overflows int's
+                    // range, we have already checked for a zero
+                    // significand.  Thus the signs of the exponent
+                    // and significand determine the final result:
                     //
                     //                      significand
                     //                      +               -
@@ -2294,7 +3519,8 @@ public class FloatingDecimal{
 
                 // IMPORTANT: make leadingDigit a long to avoid
                 // surprising shift semantics!
-                long leadingDigit = getHexDigit(significandString, 0);
+                int digitIndex = signifStart; // index of the current significand digit in s (HEX)
+                long leadingDigit = hexDigit(s.charAt(digitIndex));
 
                 //
                 // Left shift the leading digit (53 - (bit position of
@@ -2347,7 +3573,8 @@ public class FloatingDecimal{
                 for (i = 1;
                      i < signifLength && nextShift >= 0;
                      i++) {
-                    long currentDigit = getHexDigit(significandString, i);
+                    digitIndex = nextHexDigit(digitIndex, pointIndex);
+                    long currentDigit = hexDigit(s.charAt(digitIndex));
                     significand |= (currentDigit << nextShift);
                     nextShift -= 4;
                 }
@@ -2358,7 +3585,8 @@ public class FloatingDecimal{
                 // sticky bit.
 
                 if (i < signifLength) { // at least one hex input digit exists
-                    long currentDigit = getHexDigit(significandString, i);
+                    digitIndex = nextHexDigit(digitIndex, pointIndex);
+                    long currentDigit = hexDigit(s.charAt(digitIndex));
 
                     // from nextShift, figure out how many bits need
                     // to be copied, if any
@@ -2406,7 +3634,8 @@ public class FloatingDecimal{
                     // the remaining unprocessed input.
                     i++;
                     while (i < signifLength && !sticky) {
-                        currentDigit = getHexDigit(significandString, i);
+                        digitIndex = nextHexDigit(digitIndex, pointIndex);
+                        currentDigit = hexDigit(s.charAt(digitIndex));
                         sticky = sticky || (currentDigit != 0);
                         i++;
                     }
@@ -2547,46 +3776,44 @@ public class FloatingDecimal{
                     // x1.11        x1. + 1
                     //
                     boolean leastZero = ((significand & 1L) == 0L);
+                    // the direction of the rounding, which breaks a tie of a
+                    // double rounding to a narrower format (B16)
+                    int roundingRemainder = (round || sticky) ? 1 : 0;
                     if ((leastZero && round && sticky) ||
                             ((!leastZero) && round)) {
                         significand++;
+                        roundingRemainder = -1;
                     }
 
                     double value = isNegative ?
                             Double.longBitsToDouble(significand | DoubleConsts.SIGN_BIT_MASK) :
                             Double.longBitsToDouble(significand );
 
-                    return new PreparedASCIIToBinaryBuffer(value, fValue);
+                    return new PreparedASCIIToBinaryBuffer(value, fValue, roundingRemainder);
                 }
             }
     }
 
     /**
-     * Returns <code>s</code> with any leading zeros removed.
+     * Returns the value of a hexadecimal digit or <code>-1</code> if
+     * <code>c</code> is not an ASCII hexadecimal digit (HEX).
      */
-    static String stripLeadingZeros(String s) {
-//        return  s.replaceFirst("^0+", "");
-        if(!s.isEmpty() && s.charAt(0)=='0') {
-            for(int i=1; i<s.length(); i++) {
-                if(s.charAt(i)!='0') {
-                    return s.substring(i);
-                }
-            }
-            return "";
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
         }
-        return s;
+        return -1;
     }
 
     /**
-     * Extracts a hexadecimal digit from position <code>position</code>
-     * of string <code>s</code>.
+     * Returns the index of the significand digit after the digit at
+     * <code>index</code>, skipping the point (HEX).
      */
-    static int getHexDigit(String s, int position) {
-        int value = Character.digit(s.charAt(position), 16);
-        if (value <= -1 || value >= 16) {
-            throw new AssertionError("Unexpected failure of digit conversion of " +
-                                     s.charAt(position));
-        }
-        return value;
+    private static int nextHexDigit(int index, int pointIndex) {
+        return (index + 1 == pointIndex) ? index + 2 : index + 1;
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse.sun.misc;
+
+import java.util.Arrays;
+
+/**
+ * The compiled form of a <code>jparse.NumberFormatProfile</code>, i.e. the decimal marks, grouping separators, signs,
+ * whitespace handling and grammar which are checked by the scanners of {@link FloatingDecimal}.
+ * <p>
+ * The characters are compiled into a lookup table once, when the syntax is created: a table for the ISO-LATIN-1
+ * characters and a sorted array for the other characters. An instance is immutable and can be shared by any number of
+ * threads. This is an internal class, the API is <code>jparse.NumberFormatProfile</code>.
+ * </p>
+ *
+ * @author rmunge
+ */
+public final class NumberSyntax {
+
+    /**
+     * Decimal digits of any script, decimal marks anywhere in the digits, leading zeros, NaN, Infinity, hexadecimal
+     * numbers and a type suffix.
+     */
+    public static final int LENIENT = 0;
+
+    /**
+     * The grammar of {@link Double#valueOf(String)}.
+     */
+    public static final int JAVA = 1;
+
+    /**
+     * The number grammar of JSON (RFC 8259).
+     */
+    public static final int JSON = 2;
+
+    /**
+     * The syntax of the parse methods without a profile: '.', ',' and the arabic decimal separator (U+066B) as decimal
+     * marks, no grouping separators, '+' and '-' and leading and trailing whitespace is ignored.
+     */
+    public static final NumberSyntax DEFAULT = new NumberSyntax(".,\u066B", "", true, true, true, LENIENT);
+
+    private static final byte DECIMAL_MARK = 1;
+    private static final byte GROUPING_SEPARATOR = 2;
+
+    private final String decimalMarks;
+    private final String groupingSeparators;
+    private final boolean plusAllowed;
+    private final boolean minusAllowed;
+    private final boolean trimmed;
+    private final int grammar;
+
+    /**
+     * Character classes of the ISO-LATIN-1 characters.
+     */
+    private final byte[] latinClasses = new byte[256];
+
+    /**
+     * Sorted characters above ISO-LATIN-1 and their classes.
+     */
+    private final char[] otherChars;
+    private final byte[] otherClasses;
+
+    /**
+     * Compiles a syntax.
+     *
+     * @param decimalMarks the characters which are accepted as decimal mark
+     * @param groupingSeparators the characters which are accepted as grouping separator
+     * @param plusAllowed <code>true</code> if a '+' sign is allowed
+     * @param minusAllowed <code>true</code> if a '-' sign is allowed
+     * @param trimmed <code>true</code> if leading and trailing whitespace is ignored
+     * @param grammar {@link #LENIENT}, {@link #JAVA} or {@link #JSON}
+     * @throws IllegalArgumentException if a character is a decimal mark and a grouping separator or a decimal mark or
+     *         grouping separator is a digit, a sign, 'e' or 'E'
+     */
+    public NumberSyntax(String decimalMarks, String groupingSeparators, boolean plusAllowed, boolean minusAllowed,
+            boolean trimmed, int grammar) {
+
+        this.decimalMarks = decimalMarks;
+        this.groupingSeparators = groupingSeparators;
+        this.plusAllowed = plusAllowed;
+        this.minusAllowed = minusAllowed;
+        this.trimmed = trimmed;
+        this.grammar = grammar;
+
+        final String allChars = decimalMarks + groupingSeparators;
+        char[] chars = new char[allChars.length()];
+        byte[] classes = new byte[allChars.length()];
+        int otherCount = 0;
+
+        for (int i = 0; i < allChars.length(); i++) {
+
+            final char c = allChars.charAt(i);
+            final byte charClass = (i < decimalMarks.length()) ? DECIMAL_MARK : GROUPING_SEPARATOR;
+
+            if (c == '+' || c == '-' || c == 'e' || c == 'E' || UnicodeDigits.digit(c) >= 0) {
+                throw new IllegalArgumentException("'" + c + "' can be neither a decimal mark nor a grouping separator");
+            }
+
+            if (c < 256) {
+                checkClass(c, latinClasses[c], charClass);
+                latinClasses[c] = charClass;
+
+            } else {
+                for (int j = 0; j < otherCount; j++) {
+                    if (chars[j] == c) {
+                        checkClass(c, classes[j], charClass);
+                    }
+                }
+                chars[otherCount] = c;
+                classes[otherCount++] = charClass;
+            }
+        }
+
+        // sort the other characters for a binary search
+        char[] sortedChars = Arrays.copyOf(chars, otherCount);
+        Arrays.sort(sortedChars);
+        otherChars = sortedChars;
+        otherClasses = new byte[otherCount];
+
+        for (int i = 0; i < otherCount; i++) {
+            otherClasses[Arrays.binarySearch(otherChars, chars[i])] = classes[i];
+        }
+    }
+
+    /**
+     * @return the characters which are accepted as decimal mark
+     */
+    public String getDecimalMarks() {
+        return decimalMarks;
+    }
+
+    /**
+     * @return the characters which are accepted as grouping separator
+     */
+    public String getGroupingSeparators() {
+        return groupingSeparators;
+    }
+
+    /**
+     * @return {@link #LENIENT}, {@link #JAVA} or {@link #JSON}
+     */
+    public int getGrammar() {
+        return grammar;
+    }
+
+    /**
+     * @param c a character
+     * @return <code>true</code> if the given character is a decimal mark
+     */
+    public boolean isDecimalMark(char c) {
+        return classOf(c) == DECIMAL_MARK;
+    }
+
+    /**
+     * @param c a character
+     * @return <code>true</code> if the given character is a grouping separator
+     */
+    public boolean isGroupingSeparator(char c) {
+        return classOf(c) == GROUPING_SEPARATOR;
+    }
+
+    /**
+     * @param sign '+' or '-'
+     * @return <code>true</code> if the given sign is allowed
+     */
+    public boolean isSignAllowed(char sign) {
+        return (sign == '-') ? minusAllowed : plusAllowed;
+    }
+
+    /**
+     * @return <code>true</code> if leading and trailing whitespace is ignored
+     */
+    public boolean isTrimmed() {
+        return trimmed;
+    }
+
+    private byte classOf(char c) {
+
+        if (c < 256) {
+            return latinClasses[c];
+        }
+
+        if (otherChars.length == 0) {
+            return 0;
+        }
+
+        int index = Arrays.binarySearch(otherChars, c);
+        return (index >= 0) ? otherClasses[index] : 0;
+    }
+
+    private static void checkClass(char c, byte previousClass, byte charClass) {
+
+        if (previousClass != 0 && previousClass != charClass) {
+            throw new IllegalArgumentException("'" + c + "' can't be a decimal mark and a grouping separator");
+        }
+    }
+}
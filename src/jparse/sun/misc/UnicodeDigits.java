@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2003, rmunge and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  The author designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * in the LICENSE file that accompanied this code.
+ *
+ * This work contains modified source code from the OpenJDK project (package: jparse.sun.misc).
+ * The original source code is available here: http://hg.openjdk.java.net/jdk8.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ */
+package jparse.sun.misc;
+
+import java.util.Arrays;
+
+/**
+ * Table based lookup of the value of Unicode decimal digits (general category {@code Nd}), e.g. arabic-indic, devanagari
+ * or full-width digits.
+ *
+ * <p>
+ * {@link #digit(char)} returns the same value as {@link Character#digit(char, int)} with radix 10, but with two array
+ * loads instead of the multi-level lookup of the character properties.
+ * </p>
+ *
+ * <p>
+ * Each block of decimal digits is a contiguous run of ten characters, starting with the digit zero. The table is
+ * computed once from the zero digits of the Unicode version of the running JVM and split into pages of 256 characters,
+ * pages without any digit share a single page, thus the table takes only a few kilobytes.
+ * </p>
+ * <p>
+ * This is an internal class of the scanners of {@link FloatingDecimal} and of the {@code jparse} parsers, it is not
+ * part of the API.
+ * </p>
+ *
+ * @author rmunge
+ */
+public final class UnicodeDigits {
+
+    private static final int PAGE_SHIFT = 8;
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    private static final byte[][] PAGES;
+
+    static {
+
+        final byte[] noDigits = new byte[1 << PAGE_SHIFT];
+        Arrays.fill(noDigits, (byte) -1);
+
+        PAGES = new byte[(Character.MAX_VALUE + 1) >>> PAGE_SHIFT][];
+        Arrays.fill(PAGES, noDigits);
+
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+
+            if (Character.getType(c) == Character.DECIMAL_DIGIT_NUMBER && Character.digit(c, 10) == 0) {
+
+                for (int digit = 0; digit < 10; digit++) {
+                    final int pageIndex = (c + digit) >>> PAGE_SHIFT;
+
+                    if (PAGES[pageIndex] == noDigits) {
+                        PAGES[pageIndex] = noDigits.clone();
+                    }
+                    PAGES[pageIndex][(c + digit) & PAGE_MASK] = (byte) digit;
+                }
+            }
+        }
+    }
+
+    private UnicodeDigits() {
+    }
+
+    /**
+     * Returns the value of a Unicode decimal digit.
+     *
+     * @param c the character to be converted
+     * @return the value of the digit (0 to 9) or <code>-1</code> if the character is not a decimal digit
+     */
+    public static int digit(char c) {
+        return PAGES[c >>> PAGE_SHIFT][c & PAGE_MASK];
+    }
+}
@@ -0,0 +1,98 @@
+package jparse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import jparse.LineScanner.ColumnType;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+
+/**
+ * JUnit tests for {@link LineScanner}.
+ *
+ * @author rmunge
+ */
+public class LineScannerTest {
+
+	@Test
+	public void testLineScanner_Profile() {
+		LineScanner scanner = new LineScanner(';', NumberFormatProfile.GERMAN, ColumnType.LONG, ColumnType.DOUBLE);
+
+		assertTrue(scanner.scan("1.000.000;-2.500,75"));
+		assertEquals(1_000_000L, scanner.getLong(0));
+		assertEquals(-2500.75d, scanner.getDouble(1), 0.0d);
+	}
+
+	@Test
+	public void testLineScanner() {
+		LineScanner scanner = new LineScanner(',', ColumnType.INT, ColumnType.SKIP, ColumnType.DOUBLE, ColumnType.LONG);
+
+		assertTrue(scanner.scan("42,ignored,-1.5,9223372036854775807,extra"));
+		assertEquals(5, scanner.getFieldCount());
+		assertEquals(42, scanner.getInt(0));
+		assertFalse(scanner.isValid(1));
+		assertEquals(-1.5d, scanner.getDouble(2), 0.0d);
+		assertEquals(Long.MAX_VALUE, scanner.getLong(3));
+
+		// values of the previous line are cleared, a missing field is invalid
+		assertFalse(scanner.scan("x,,2"));
+		assertFalse(scanner.isValid(0));
+		assertEquals(0, scanner.getInt(0));
+		assertTrue(scanner.isValid(2));
+		assertFalse(scanner.isValid(3));
+
+		// range of a byte array, e.g. a line within a buffer of a file
+		byte[] bytes = "#-7,a,1e3,123456789012345\n".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(scanner.scan(bytes, 1, bytes.length - 1));
+		assertEquals(-7, scanner.getInt(0));
+		assertEquals(1000d, scanner.getDouble(2), 0.0d);
+		assertEquals(123456789012345L, scanner.getLong(3));
+		assertEquals(123456789012345d, scanner.getDouble(3), 0.0d);
+	}
+
+	@Test
+	public void testLineScanner_FieldEnd() {
+		LineScanner scanner = new LineScanner(',', ColumnType.DOUBLE, ColumnType.DOUBLE, ColumnType.INT);
+
+		// ',' is a decimal mark of the default grammar, but a field never contains its delimiter
+		assertTrue(scanner.scan("1,5,7"));
+		assertEquals(1d, scanner.getDouble(0), 0.0d);
+		assertEquals(5d, scanner.getDouble(1), 0.0d);
+		assertEquals(7, scanner.getInt(2));
+
+		// whitespace around a number and spaces within an integer
+		assertTrue(scanner.scan(" 1.5 ,\t2e1\t, 1 000 "));
+		assertEquals(1.5d, scanner.getDouble(0), 0.0d);
+		assertEquals(20d, scanner.getDouble(1), 0.0d);
+		assertEquals(1000, scanner.getInt(2));
+
+		// a number followed by anything else than the delimiter
+		assertFalse(scanner.scan("1.5x,2e,3-"));
+		assertFalse(scanner.isValid(0));
+		assertFalse(scanner.isValid(1));
+		assertFalse(scanner.isValid(2));
+		assertEquals(3, scanner.getFieldCount());
+
+		assertFalse(scanner.scan("1,2,2147483648,"));
+		assertFalse(scanner.isValid(2));
+		assertEquals(4, scanner.getFieldCount());
+	}
+
+	@Test
+	public void testLineScanner_DelimiterWithinNumbers() {
+		LineScanner scanner = new LineScanner('e', ColumnType.DOUBLE, ColumnType.LONG);
+
+		assertTrue(scanner.scan("1e5"));
+		assertEquals(1d, scanner.getDouble(0), 0.0d);
+		assertEquals(5L, scanner.getLong(1));
+
+		scanner = new LineScanner('-', ColumnType.INT, ColumnType.INT);
+		assertTrue(scanner.scan("12-34"));
+		assertEquals(12, scanner.getInt(0));
+		assertEquals(34, scanner.getInt(1));
+	}
+}
@@ -1,8 +1,25 @@
 package jparse;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import jparse.NumberFormatProfile.SignPolicy;
+import jparse.NumberFormatProfile.WhitespacePolicy;
+import jparse.NumberParseResult.Status;
+import jparse.sun.misc.UnicodeDigits;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assume;
 import org.junit.Test;
 
 
@@ -39,6 +56,18 @@ public class NumberParserTest {
 		assertEquals(-1, NumberParser.parsePositiveInt("56" + ARABIC_NINE + ARABIC_ZERO + BENGALI_SIX + "/", 10));
 	}
 
+	@Test
+	public void testParsePositiveInt_AllUnicodeDigits() {
+		for (char c = Character.MIN_VALUE; c < Character.MAX_VALUE; c++) {
+			assertEquals(Character.digit(c, 10), UnicodeDigits.digit(c));
+		}
+		assertEquals(Character.digit(Character.MAX_VALUE, 10), UnicodeDigits.digit(Character.MAX_VALUE));
+
+		char devanagariFour = '\u096A';
+		char fullwidthTwo = '\uFF12';
+		assertEquals(42462, NumberParser.parsePositiveInt("" + devanagariFour + fullwidthTwo + "4" + BENGALI_SIX + fullwidthTwo));
+	}
+
 	@Test
 	public void testParsePositiveInt_LeadingSpaces() {
 		assertEquals(5, NumberParser.parsePositiveInt(" 5"));
@@ -104,6 +133,390 @@ public class NumberParserTest {
 		assertEquals(1, NumberParser.parsePositiveInt("  1   "));
 	}
 
+	@Test
+	public void testParsePositiveLong_NumbersWithinRange() {
+		assertEquals(0L, NumberParser.parsePositiveLong("0"));
+		assertEquals(473L, NumberParser.parsePositiveLong("473"));
+		assertEquals(42L, NumberParser.parsePositiveLong("+42"));
+		assertEquals(-1L, NumberParser.parsePositiveLong("-0"));
+		assertEquals(1476741600000L, NumberParser.parsePositiveLong("1476741600000")); // epoch millis
+		assertEquals(9223372036854775807L, NumberParser.parsePositiveLong("9223372036854775807")); // Long.MAX_VALUE
+		assertEquals(-1L, NumberParser.parsePositiveLong("-9223372036854775808")); // Long.MIN_VALUE
+	}
+
+	@Test
+	public void testParsePositiveLong_MixedDigits() {
+		assertEquals(56906L, NumberParser.parsePositiveLong("56" + ARABIC_NINE + ARABIC_ZERO + BENGALI_SIX));
+		assertEquals(-1L, NumberParser.parsePositiveLong("56" + ARABIC_NINE + ARABIC_ZERO + BENGALI_SIX + "/"));
+	}
+
+	@Test
+	public void testParsePositiveLong_InvalidNumbers() {
+		assertEquals(-1L, NumberParser.parsePositiveLong(null));
+		assertEquals(-1L, NumberParser.parsePositiveLong(""));
+		assertEquals(-1L, NumberParser.parsePositiveLong(" "));
+		assertEquals(-1L, NumberParser.parsePositiveLong("+"));
+		assertEquals(-1L, NumberParser.parsePositiveLong("-"));
+		assertEquals(-1L, NumberParser.parsePositiveLong("ABC"));
+		assertEquals(-1L, NumberParser.parsePositiveLong("12.5"));
+	}
+
+	@Test
+	public void testParsePositiveLong_Limits() {
+		assertEquals(-1L, NumberParser.parsePositiveLong("9223372036854775808")); // Long.MAX_VALUE + 1
+		assertEquals(-1L, NumberParser.parsePositiveLong("922337203685477580700")); // Long.MAX_VALUE * 100
+	}
+
+	@Test
+	public void testParsePositiveLong_SpecialRadix() {
+		assertEquals(0x7FFFFFFFFFFFFFFFL, NumberParser.parsePositiveLong("7FFFFFFFFFFFFFFF", 16));
+		assertEquals(-1L, NumberParser.parsePositiveLong("8000000000000000", 16));
+		assertEquals(-1L, NumberParser.parsePositiveLong("99", 8));
+	}
+
+	@Test
+	public void testParsePositiveLong_WithSpaces() {
+		assertEquals(1_000_000_000_000L, NumberParser.parsePositiveLong(" 1 000 000 000 000 "));
+	}
+
+	@Test
+	public void testParseInt_Signed() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertTrue(NumberParser.parseInt("-42", result));
+		assertEquals(Status.OK, result.getStatus());
+		assertEquals(-42, result.getIntValue());
+		assertEquals(-1, result.getErrorIndex());
+		assertEquals(3, result.getIndex());
+
+		assertTrue(NumberParser.parseInt(" + 1 000 ", result));
+		assertEquals(1000, result.getIntValue());
+
+		assertTrue(NumberParser.parseInt("-0", result));
+		assertEquals(0, result.getIntValue());
+
+		assertTrue(NumberParser.parseInt("-" + ARABIC_NINE + ARABIC_ZERO, result));
+		assertEquals(-90, result.getIntValue());
+
+		assertTrue(NumberParser.parseInt("-FF", 16, result));
+		assertEquals(-255, result.getIntValue());
+	}
+
+	@Test
+	public void testParseInt_Limits() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertTrue(NumberParser.parseInt("2147483647", result));
+		assertEquals(Integer.MAX_VALUE, result.getIntValue());
+		assertTrue(NumberParser.parseInt("-2147483648", result));
+		assertEquals(Integer.MIN_VALUE, result.getIntValue());
+
+		assertFalse(NumberParser.parseInt("2147483648", result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertEquals(9, result.getErrorIndex());
+		assertEquals(0, result.getIntValue());
+
+		assertFalse(NumberParser.parseInt("-2147483649", result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertEquals(10, result.getErrorIndex());
+
+		assertFalse(NumberParser.parseInt("214748364700", result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+	}
+
+	@Test
+	public void testParseInt_InvalidNumbers() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertFalse(NumberParser.parseInt(null, result));
+		assertEquals(Status.EMPTY, result.getStatus());
+		assertFalse(NumberParser.parseInt("", result));
+		assertEquals(Status.EMPTY, result.getStatus());
+		assertFalse(NumberParser.parseInt("   ", result));
+		assertEquals(Status.EMPTY, result.getStatus());
+
+		assertFalse(NumberParser.parseInt(" -", result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(1, result.getErrorIndex());
+
+		assertFalse(NumberParser.parseInt("12x4", result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(2, result.getErrorIndex());
+
+		assertFalse(NumberParser.parseInt("--1", result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(1, result.getErrorIndex());
+
+		// reused result is reset on success
+		assertTrue(NumberParser.parseInt("7", result));
+		assertEquals(Status.OK, result.getStatus());
+		assertEquals(-1, result.getErrorIndex());
+	}
+
+	@Test
+	public void testParseLong_Signed() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertTrue(NumberParser.parseLong("-9223372036854775808", result));
+		assertEquals(Long.MIN_VALUE, result.getLongValue());
+		assertTrue(NumberParser.parseLong("9223372036854775807", result));
+		assertEquals(Long.MAX_VALUE, result.getLongValue());
+		assertTrue(NumberParser.parseLong("-1476741600000", result));
+		assertEquals(-1476741600000L, result.getLongValue());
+
+		assertFalse(NumberParser.parseLong("9223372036854775808", result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertFalse(NumberParser.parseLong("-9223372036854775809", result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+
+		assertTrue(NumberParser.parseLong("-8000000000000000", 16, result));
+		assertEquals(Long.MIN_VALUE, result.getLongValue());
+	}
+
+	@Test
+	public void testParseDouble_Result() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertTrue(NumberParser.parseDouble("-1,5", result));
+		assertEquals(-1.5d, result.getDoubleValue(), 0.0d);
+
+		// NaN is a valid value and not an error
+		assertTrue(NumberParser.parseDouble("NaN", result));
+		assertTrue(Double.isNaN(result.getDoubleValue()));
+
+		assertFalse(NumberParser.parseDouble(" ", result));
+		assertEquals(Status.EMPTY, result.getStatus());
+
+		assertFalse(NumberParser.parseDouble("+", result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(1, result.getErrorIndex());
+
+		assertFalse(NumberParser.parseDouble(" 10.0.0.1", result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(5, result.getErrorIndex());
+
+		assertFalse(NumberParser.parseDouble("15.485Ex", result));
+		assertEquals(7, result.getErrorIndex());
+
+		assertTrue(NumberParser.parseFloat("0.1", result));
+		assertEquals(0.1f, result.getFloatValue(), 0.0f);
+
+		assertFalse(NumberParser.parseFloat("0x1.99999", result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(0, result.getErrorIndex());
+	}
+
+	@Test
+	public void testParseRanges() {
+		String line = "id;42;-7;1476741600000;3,25;x";
+		char[] chars = line.toCharArray();
+
+		assertEquals(42, NumberParser.parsePositiveInt(line, 3, 5));
+		assertEquals(42, NumberParser.parsePositiveInt(chars, 3, 5));
+		assertEquals(-1, NumberParser.parsePositiveInt(line, 6, 8));
+		assertEquals(-1, NumberParser.parsePositiveInt(line, 3, 3));
+		assertEquals(1476741600000L, NumberParser.parsePositiveLong(line, 9, 22));
+		assertEquals(1476741600000L, NumberParser.parsePositiveLong(chars, 9, 22));
+
+		assertEquals(3.25d, NumberParser.parseDouble(line, 23, 27), 0.0d);
+		assertEquals(3.25d, NumberParser.parseDouble(chars, 23, 27), 0.0d);
+		assertEquals(3.25f, NumberParser.parseFloat(new StringBuilder(line), 23, 27), 0.0f);
+		assertEquals(3.25f, NumberParser.parseFloat(chars, 23, 27), 0.0f);
+		assertTrue(Double.isNaN(NumberParser.parseDouble(line, 23, 29)));
+
+		NumberParseResult result = new NumberParseResult();
+		assertTrue(NumberParser.parseInt(chars, 6, 8, result));
+		assertEquals(-7, result.getIntValue());
+		assertEquals(8, result.getIndex());
+		assertTrue(NumberParser.parseLong(line, 9, 22, result));
+		assertEquals(1476741600000L, result.getLongValue());
+
+		// error indices refer to the whole source
+		assertFalse(NumberParser.parseInt(line, 6, 10, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(8, result.getErrorIndex());
+		assertFalse(NumberParser.parseDouble(chars, 22, 27, result));
+		assertEquals(22, result.getErrorIndex());
+		assertTrue(NumberParser.parseFloat(line, 23, 27, result));
+		assertEquals(3.25f, result.getFloatValue(), 0.0f);
+		assertFalse(NumberParser.parseDouble(" 1.5 ", 0, 1, result));
+		assertEquals(Status.EMPTY, result.getStatus());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testParseRanges_OutOfBounds() {
+		NumberParser.parsePositiveInt("42", 1, 3);
+	}
+
+	@Test
+	public void testParseBytes() {
+		byte[] line = "id;42;-7;1476741600000;3,25;x".getBytes(StandardCharsets.US_ASCII);
+
+		assertEquals(42, NumberParser.parsePositiveInt(line, 3, 5));
+		assertEquals(1476741600000L, NumberParser.parsePositiveLong(line, 9, 22));
+		assertEquals(3.25d, NumberParser.parseDouble(line, 23, 27), 0.0d);
+		assertEquals(3.25f, NumberParser.parseFloat(line, 23, 27), 0.0f);
+		assertEquals(-1, NumberParser.parsePositiveInt(line, 0, 2));
+		assertTrue(Double.isNaN(NumberParser.parseDouble(line, 23, 29)));
+
+		NumberParseResult result = new NumberParseResult();
+		assertTrue(NumberParser.parseInt(line, 6, 8, result));
+		assertEquals(-7, result.getIntValue());
+		assertTrue(NumberParser.parseLong(line, 9, 22, result));
+		assertEquals(1476741600000L, result.getLongValue());
+		assertFalse(NumberParser.parseDouble(line, 22, 27, result));
+		assertEquals(22, result.getErrorIndex());
+	}
+
+	@Test
+	public void testParseByteBuffers() {
+		byte[] bytes = "xx 1 000;-2.5e3;0x1.8p1".getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+		ByteBuffer slice = ByteBuffer.wrap(bytes, 2, 10).slice(); // " 1 000;-2." with an array offset of 2
+
+		for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.wrap(bytes), direct, ByteBuffer.wrap(bytes).asReadOnlyBuffer() }) {
+			assertEquals(1000, NumberParser.parsePositiveInt(buffer, 2, 8));
+			assertEquals(1000L, NumberParser.parsePositiveLong(buffer, 2, 8));
+			assertEquals(-2500d, NumberParser.parseDouble(buffer, 9, 15), 0.0d);
+			assertEquals(3f, NumberParser.parseFloat(buffer, 16, 23), 0.0f);
+
+			NumberParseResult result = new NumberParseResult();
+			assertTrue(NumberParser.parseInt(buffer, 2, 8, result));
+			assertEquals(1000, result.getIntValue());
+			assertTrue(NumberParser.parseLong(buffer, 2, 8, result));
+			assertTrue(NumberParser.parseDouble(buffer, 9, 15, result));
+			assertTrue(NumberParser.parseFloat(buffer, 16, 23, result));
+			assertEquals(3f, result.getFloatValue(), 0.0f);
+		}
+		assertEquals(1000, NumberParser.parsePositiveInt(slice, 0, 6));
+		assertEquals(0, direct.remaining()); // position is not modified
+	}
+
+	@Test
+	public void testParseByteBuffers_Limit() {
+		byte[] bytes = "12345;678".getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+
+		// ranges are checked against the limit for heap and direct buffers alike
+		for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.wrap(bytes), direct }) {
+			buffer.limit(5);
+			buffer.position(3);
+			assertEquals(12345, NumberParser.parsePositiveInt(buffer, 0, 5));
+
+			try {
+				NumberParser.parsePositiveInt(buffer, 6, 9);
+				fail("range after the limit of a " + (buffer.isDirect() ? "direct" : "heap") + " buffer");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+
+			try {
+				NumberParser.parseDouble(buffer, 0, 9, new NumberParseResult());
+				fail("range after the limit of a " + (buffer.isDirect() ? "direct" : "heap") + " buffer");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testParseBytes_EightDigitsAtATime() {
+		NumberParseResult result = new NumberParseResult();
+
+		for (long value = 1; value > 0 && value < Long.MAX_VALUE / 10; value = value * 10 + (value % 7)) {
+			byte[] bytes = ("-" + value).getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+			direct.put(bytes);
+
+			assertEquals(value, NumberParser.parsePositiveLong(bytes, 1, bytes.length));
+			assertEquals(value, NumberParser.parsePositiveLong(direct, 1, bytes.length));
+			assertTrue(NumberParser.parseLong(bytes, 0, bytes.length, result));
+			assertEquals(-value, result.getLongValue());
+			assertTrue(NumberParser.parseLong(direct, 0, bytes.length, result));
+			assertEquals(-value, result.getLongValue());
+		}
+
+		byte[] bytes = "12345678912345678:".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(-1L, NumberParser.parsePositiveLong(bytes, 0, bytes.length));
+		assertFalse(NumberParser.parseLong(bytes, 0, bytes.length, result));
+		assertEquals(17, result.getErrorIndex());
+
+		bytes = "1234567:912345678".getBytes(StandardCharsets.US_ASCII);
+		assertFalse(NumberParser.parseLong(bytes, 0, bytes.length, result));
+		assertEquals(7, result.getErrorIndex());
+
+		// 19 digits and overflow are handled by the per-digit loop
+		bytes = "-9223372036854775808".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(NumberParser.parseLong(bytes, 0, bytes.length, result));
+		assertEquals(Long.MIN_VALUE, result.getLongValue());
+		assertFalse(NumberParser.parseLong(bytes, 1, bytes.length, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertEquals(19, result.getErrorIndex());
+
+		bytes = "2147483648".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(-1, NumberParser.parsePositiveInt(bytes, 0, bytes.length));
+		assertFalse(NumberParser.parseInt(bytes, 0, bytes.length, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertEquals(9, result.getErrorIndex());
+		bytes = "-2147483648".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(NumberParser.parseInt(bytes, 0, bytes.length, result));
+		assertEquals(Integer.MIN_VALUE, result.getIntValue());
+	}
+
+	@Test
+	public void testParseBytes_NonAscii() {
+		// UTF-8 encoded arabic-indic digits are not decoded
+		byte[] utf8 = ("1" + ARABIC_NINE).getBytes(StandardCharsets.UTF_8);
+		assertEquals(-1, NumberParser.parsePositiveInt(utf8, 0, utf8.length));
+		assertTrue(Double.isNaN(NumberParser.parseDouble(utf8, 0, utf8.length)));
+
+		byte[] latin1 = new byte[] { '1', (byte) 0xB2 }; // superscript two
+		assertEquals(-1, NumberParser.parsePositiveInt(latin1, 0, latin1.length));
+	}
+
+	@Test
+	public void testParseColumns() {
+		String[] column = new String[130];
+		for (int i = 0; i < column.length; i++) {
+			column[i] = (i % 3 == 0) ? null : (i % 3 == 1) ? Integer.toString(-i) : "x" + i;
+		}
+		column[129] = "NaN";
+
+		int[] ints = new int[column.length];
+		long[] validity = new long[3];
+		validity[0] = -1L;
+		assertEquals(43, NumberParser.parseInts(column, ints, validity));
+		for (int i = 0; i < 129; i++) {
+			boolean valid = (validity[i >>> 6] & (1L << i)) != 0;
+			assertEquals(i % 3 == 1, valid);
+			assertEquals(valid ? -i : 0, ints[i]);
+		}
+
+		long[] longs = new long[column.length];
+		assertEquals(43, NumberParser.parseLongs(column, longs, null));
+		assertEquals(-127L, longs[127]);
+
+		double[] doubles = new double[column.length];
+		assertEquals(44, NumberParser.parseDoubles(column, doubles, validity));
+		assertEquals(-127d, doubles[127], 0.0d);
+		assertEquals(0d, doubles[128], 0.0d);
+		assertTrue(Double.isNaN(doubles[129]));
+		assertEquals(1L << 1, validity[2] & 3L); // "x128" is invalid, "NaN" is valid
+
+		// ranges don't touch other elements or bits
+		validity = new long[] { 0L, 0L, 0L };
+		assertEquals(1, NumberParser.parseInts(column, 64, 66, ints, validity));
+		assertEquals(0L, validity[0]);
+		assertEquals(1L, validity[1]); // "-64" is valid, "x65" is invalid
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testParseColumns_ValidityTooShort() {
+		NumberParser.parseInts(new String[65], new int[65], new long[1]);
+	}
+
 	@Test
 	public void testParseDoubleNull() {
 		assertTrue(Double.isNaN(NumberParser.parseDouble(null)));
@@ -177,6 +590,630 @@ public class NumberParserTest {
 		assertTrue(Double.isNaN(NumberParser.parseDouble("0x1.99999")));
 	}
 
+	@Test
+	public void testParallelParseColumns() {
+		CharSequence[] column = new CharSequence[100_003];
+
+		for (int i = 0; i < column.length; i++) {
+			column[i] = (i % 7 == 0) ? "x" + i : Integer.toString(i - 50_000);
+		}
+
+		int[] ints = new int[column.length];
+		long[] intValidity = new long[(column.length + 63) / 64];
+		int[] expectedInts = new int[column.length];
+		long[] expectedValidity = new long[intValidity.length];
+		int expectedValid = NumberParser.parseInts(column, expectedInts, expectedValidity);
+
+		assertEquals(expectedValid, NumberParser.parallelParseInts(column, ints, intValidity));
+		assertArrayEquals(expectedInts, ints);
+		assertArrayEquals(expectedValidity, intValidity);
+
+		// a range which does not start or end at a multiple of 64
+		long[] longs = new long[column.length];
+		long[] longValidity = new long[intValidity.length];
+		assertEquals(NumberParser.parseLongs(column, 99, 99_001, new long[column.length], null),
+				NumberParser.parallelParseLongs(column, 99, 99_001, longs, longValidity));
+		assertEquals(0L, longs[98]);
+		assertEquals(-49_900L, longs[100]);
+		assertEquals(0L, longValidity[1] & ((1L << 35) - 1)); // elements 64 to 98 are outside of the range
+		assertEquals(1L << 40, longValidity[1] & (3L << 40)); // "-49896" is valid, "x105" is invalid
+
+		double[] doubles = new double[column.length];
+		assertEquals(expectedValid, NumberParser.parallelParseDoubles(column, doubles, null));
+		assertEquals(50_001d, doubles[100_001], 0.0d);
+	}
+
+	@Test
+	public void testNumberFormatProfiles() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertTrue(NumberParser.parseDouble("-1.234.567,25", NumberFormatProfile.GERMAN, result));
+		assertEquals(-1234567.25d, result.getDoubleValue(), 0.0d);
+		assertTrue(NumberParser.parseDouble("1'234.5", NumberFormatProfile.SWISS, result));
+		assertEquals(1234.5d, result.getDoubleValue(), 0.0d);
+		assertTrue(NumberParser.parseDouble("1\u2019234\u2019000", NumberFormatProfile.SWISS, result));
+		assertEquals(1234000d, result.getDoubleValue(), 0.0d);
+		assertTrue(NumberParser.parseDouble(" 1\u00A0234,5e1 ", NumberFormatProfile.FRENCH, result));
+		assertEquals(12345d, result.getDoubleValue(), 0.0d);
+		assertTrue(NumberParser.parseFloat("12,345.5", NumberFormatProfile.ENGLISH, result));
+		assertEquals(12345.5f, result.getFloatValue(), 0.0f);
+
+		// grouping separators only between two digits of the integer part
+		assertFalse(NumberParser.parseDouble("1,,234", NumberFormatProfile.ENGLISH, result));
+		assertEquals(1, result.getErrorIndex());
+		assertFalse(NumberParser.parseDouble(",234", NumberFormatProfile.ENGLISH, result));
+		assertFalse(NumberParser.parseDouble("1.234,5", NumberFormatProfile.ENGLISH, result));
+		assertEquals(5, result.getErrorIndex());
+		assertFalse(NumberParser.parseDouble("1,5", NumberFormatProfile.SWISS, result));
+
+		assertTrue(NumberParser.parseInt("-2.147.483.648", NumberFormatProfile.GERMAN, result));
+		assertEquals(Integer.MIN_VALUE, result.getIntValue());
+		assertFalse(NumberParser.parseInt("1.000,5", NumberFormatProfile.GERMAN, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(5, result.getErrorIndex());
+		assertTrue(NumberParser.parseLong("9'223'372'036'854'775'807", NumberFormatProfile.SWISS, result));
+		assertEquals(Long.MAX_VALUE, result.getLongValue());
+		assertFalse(NumberParser.parseLong("9'223'372'036'854'775'808", NumberFormatProfile.SWISS, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+
+		// sign and whitespace policies
+		NumberFormatProfile strict = new NumberFormatProfile(".", "", SignPolicy.MINUS_ONLY, WhitespacePolicy.NONE);
+		assertTrue(NumberParser.parseDouble("-1.5", strict, result));
+		assertFalse(NumberParser.parseDouble("+1.5", strict, result));
+		assertEquals(0, result.getErrorIndex());
+		assertFalse(NumberParser.parseInt(" 1", strict, result));
+		assertEquals(0, result.getErrorIndex());
+		assertFalse(NumberParser.parseDouble("1.5 ", strict, result));
+		assertFalse(NumberParser.parseInt("-1",
+				new NumberFormatProfile("", "", SignPolicy.UNSIGNED, WhitespacePolicy.TRIM), result));
+
+		// ranges and bytes
+		assertTrue(NumberParser.parseLong("x1.000.000x", 1, 10, NumberFormatProfile.GERMAN, result));
+		assertEquals(1_000_000L, result.getLongValue());
+		byte[] bytes = "1,000.5".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(NumberParser.parseDouble(bytes, 0, bytes.length, NumberFormatProfile.ENGLISH, result));
+		assertEquals(1000.5d, result.getDoubleValue(), 0.0d);
+
+		// the default profile is the grammar of the methods without a profile
+		assertTrue(NumberParser.parseDouble(" 1,5 ", NumberFormatProfile.DEFAULT, result));
+		assertEquals(1.5d, result.getDoubleValue(), 0.0d);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNumberFormatProfile_DecimalMarkIsGroupingSeparator() {
+		new NumberFormatProfile(".,", "\u00A0,", SignPolicy.PLUS_OR_MINUS, WhitespacePolicy.TRIM);
+	}
+
+	@Test
+	public void testParseDouble_NineteenDigits() {
+
+		// values close to the midpoint of two doubles, which need the exact comparison
+		String[] values = { "7.3177701707893310e+15", "7.2057594037927933e+16", "1e23", "9007199254740993",
+				"2.2250738585072011e-308", "1.7976931348623157e308", "1.7976931348623159e308", "9999999999999999999e-343",
+				"18446744073709551615", "9223372036854775808", "1.234567890123456789", "0.1000000000000000055511151231257827" };
+
+		for (String value : values) {
+			assertEquals(value, Double.parseDouble(value), NumberParser.parseDouble(value), 0.0d);
+		}
+
+		Random random = new Random(42);
+
+		for (int i = 0; i < 10_000; i++) {
+			String value = (1 + random.nextInt(9)) + "." + Math.abs(random.nextLong() % 1_000_000_000_000_000_000L) + "e"
+					+ (random.nextInt(600) - 300);
+			assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)),
+					Double.doubleToLongBits(NumberParser.parseDouble(value)));
+		}
+	}
+
+	@Test
+	public void testParseFloat_Rounding() {
+
+		// values close to the midpoint of two floats, which must be rounded once and not via the nearest double
+		String[] values = { "1.00000017881393432617187499", "1.000000178813934326171875", "1.000000178813934326171876",
+				"3.4028235e38", "3.40282357e38", "1.17549435e-38", "1.4e-45", "16777217", "33554435", "0.1",
+				"8.589973e9", "0.12345678", "-98765.4321" };
+
+		for (String value : values) {
+			assertEquals(value, Float.floatToIntBits(Float.parseFloat(value)),
+					Float.floatToIntBits(NumberParser.parseFloat(value)));
+		}
+
+		Random random = new Random(42);
+
+		for (int i = 0; i < 10_000; i++) {
+			float f = Float.intBitsToFloat(random.nextInt(0x7F000000));
+			String midpoint = new BigDecimal(f).add(new BigDecimal(Math.nextUp(f))).divide(BigDecimal.valueOf(2))
+					.round(new MathContext(6 + random.nextInt(14))).toString();
+			assertEquals(midpoint, Float.floatToIntBits(Float.parseFloat(midpoint)),
+					Float.floatToIntBits(NumberParser.parseFloat(midpoint)));
+
+			String value = "0." + random.nextInt(1_000_000_000) + "e" + (random.nextInt(80) - 40);
+			assertEquals(value, Float.floatToIntBits(Float.parseFloat(value)),
+					Float.floatToIntBits(NumberParser.parseFloat(value)));
+		}
+	}
+
+	@Test
+	public void testParseDouble_LongInput() {
+
+		// the exact midpoint between the two smallest subnormal doubles, followed by a tail which decides the rounding
+		String midpoint = new BigDecimal(Double.MIN_VALUE).add(new BigDecimal(2 * Double.MIN_VALUE))
+				.divide(BigDecimal.valueOf(2)).toString();
+		StringBuilder zeros = new StringBuilder();
+
+		for (int i = 0; i < 100_000; i++) {
+			zeros.append('0');
+		}
+
+		String[] values = { midpoint, midpoint.replace("E", zeros + "E"), midpoint.replace("E", zeros + "1E"),
+				"1." + zeros + "1", "0." + zeros + "123", zeros + "1.5" };
+
+		for (String value : values) {
+			assertEquals(Double.doubleToLongBits(Double.parseDouble(value)),
+					Double.doubleToLongBits(NumberParser.parseDouble(value)));
+			assertEquals(Float.floatToIntBits(Float.parseFloat(value)),
+					Float.floatToIntBits(NumberParser.parseFloat(value)));
+		}
+	}
+
+	@Test
+	public void testParseDouble_SubnormalConcurrently() throws InterruptedException {
+
+		// the slow path of these values needs powers of five which are cached lazily
+		final String[] values = { "4.9406564584124654e-324", "2.4703282292062328e-324", "2.4703282292062327e-324",
+				"1.2345678901234567890123456789e-310", "9.8813129168249309e-324" };
+		final double[] expected = new double[values.length];
+
+		for (int i = 0; i < values.length; i++) {
+			expected[i] = Double.parseDouble(values[i]);
+		}
+
+		final boolean[] failed = new boolean[1];
+		Thread[] threads = new Thread[4];
+
+		for (int t = 0; t < threads.length; t++) {
+			final int first = t;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 1000; i++) {
+						int index = (first + i) % values.length;
+						if (NumberParser.parseDouble(values[index]) != expected[index]) {
+							failed[0] = true;
+						}
+					}
+				}
+			});
+			threads[t].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertFalse(failed[0]);
+	}
+
+	@Test
+	public void testParseDouble_NoAllocation() {
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+		// the last values need the FDBigInteger correction loop
+		String[] values = { "3.14159", "-1,5e-7", "1234567890.123456789", "0.1", " 42 ", "NaN", "9007199254740993",
+				"2.2250738585072011e-308", "1.00000017881393432617187499", "4.9406564584124654e-324" };
+		char[][] chars = new char[values.length][];
+		char[] digits = "-123456789".toCharArray();
+		byte[] bytes = "-123456789;2.5e-3".getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+
+		for (int i = 0; i < values.length; i++) {
+			chars[i] = values[i].toCharArray();
+		}
+		NumberParseResult result = new NumberParseResult();
+		long threadId = Thread.currentThread().getId();
+		long minAllocated = Long.MAX_VALUE;
+		double sum = 0d;
+
+		// the first round initializes the thread local buffers, a single round may be disturbed by the JIT compiler
+		for (int round = 0; round < 5; round++) {
+
+			long allocated = threadBean.getThreadAllocatedBytes(threadId);
+
+			for (int i = 0; i < 1000; i++) {
+				String value = values[i % values.length];
+				sum += NumberParser.parseDouble(value);
+				NumberParser.parseDouble(value, 0, value.length(), result);
+				sum += result.getDoubleValue();
+				sum += NumberParser.parseFloat(value);
+
+				// char arrays are parsed through a reused view instead of a wrapper per call
+				char[] array = chars[i % values.length];
+				sum += NumberParser.parseDouble(array, 0, array.length);
+				NumberParser.parseFloat(array, 0, array.length, result);
+				sum += result.getFloatValue();
+				NumberParser.parseInt(digits, 0, digits.length, result);
+				sum += result.getIntValue();
+				NumberParser.parseLong(digits, 0, digits.length, result);
+				sum += NumberParser.parsePositiveInt(digits, 1, digits.length);
+				sum += NumberParser.parsePositiveLong(digits, 1, digits.length);
+
+				// so are byte arrays and buffers
+				NumberParser.parseLong(bytes, 0, 10, result);
+				sum += result.getLongValue();
+				sum += NumberParser.parseDouble(bytes, 11, bytes.length);
+				sum += NumberParser.parsePositiveInt(direct, 1, 10);
+				NumberParser.parseDouble(direct, 11, bytes.length, result);
+				sum += result.getDoubleValue();
+			}
+			minAllocated = Math.min(minAllocated, threadBean.getThreadAllocatedBytes(threadId) - allocated);
+		}
+		assertEquals(0L, minAllocated);
+		assertTrue(Double.isNaN(sum));
+	}
+
+	@Test
+	public void testParseDouble_Hexadecimal() {
+		String[] values = { "0x1p0", "0x.8p1", "0x1.p1", "0X1.8P-1f", "-0x0.0p5", "0x0p99999999999", "-0x1p99999999999",
+				"0x1p-99999999999", "+0x00001.000008p-1074", "0x1.fffffffffffff8p1023", "0x0.0000000000001p-1022",
+				"0x1.00000000000008000000001p0" };
+
+		for (String value : values) {
+			assertEquals(value, Double.doubleToLongBits(Double.parseDouble(value)),
+					Double.doubleToLongBits(NumberParser.parseDouble(value)));
+			assertEquals(value, Float.floatToIntBits(Float.parseFloat(value)),
+					Float.floatToIntBits(NumberParser.parseFloat(value)));
+		}
+
+		String[] invalid = { "0x.p1", "0xp1", "0x1", "0x1p", "0x1p+", "0x1.8p1x", "0x1.8p1ff", "0x1..1p1", "0xg.1p1" };
+		NumberParseResult result = new NumberParseResult();
+
+		for (String value : invalid) {
+			assertFalse(value, NumberParser.parseDouble(value, result));
+			assertEquals(value, 0, result.getErrorIndex());
+		}
+	}
+
+	@Test
+	public void testParseScaledLong() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertTrue(NumberParser.parseScaledLong("12.5", 2, result));
+		assertEquals(1250L, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong(" -0,00000001 ", 8, result));
+		assertEquals(-1L, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong("1.25e1", 2, result));
+		assertEquals(1250L, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong("12.500000000000000000000", 2, result));
+		assertEquals(1250L, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong("1200", -2, result));
+		assertEquals(12L, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong("-92233720368547758.08", 2, result));
+		assertEquals(Long.MIN_VALUE, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong("-0", 2, result));
+		assertEquals(0L, result.getLongValue());
+		// the unscaled values 0, 1 and 2 are values, not error codes
+		for (long value = 0; value <= 2; value++) {
+			assertTrue(NumberParser.parseScaledLong("0.0" + value, 2, result));
+			assertEquals(value, result.getLongValue());
+			assertEquals(-1, result.getErrorIndex());
+		}
+
+		assertFalse(NumberParser.parseScaledLong("12.505", 2, result));
+		assertEquals(Status.INEXACT, result.getStatus());
+		assertEquals(5, result.getErrorIndex());
+		assertFalse(NumberParser.parseScaledLong("1e-30", 8, result));
+		assertEquals(Status.INEXACT, result.getStatus());
+		assertFalse(NumberParser.parseScaledLong("92233720368547758.08", 2, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertEquals(19, result.getErrorIndex());
+		assertFalse(NumberParser.parseScaledLong("1e30", 2, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertFalse(NumberParser.parseScaledLong("NaN", 2, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertFalse(NumberParser.parseScaledLong("0x1p3", 2, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertFalse(NumberParser.parseScaledLong(" ", 2, result));
+		assertEquals(Status.EMPTY, result.getStatus());
+		// a fixed point number has no type suffix
+		assertFalse(NumberParser.parseScaledLong("12.5f", 2, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(4, result.getErrorIndex());
+		assertFalse(NumberParser.parseScaledLong(" 1e3D ", 2, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(4, result.getErrorIndex());
+		assertFalse(NumberParser.parseScaledLong("0d", 2, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+
+		assertTrue(NumberParser.parseScaledLong("x1.234,56x", 1, 9, 2, NumberFormatProfile.GERMAN, result));
+		assertEquals(123456L, result.getLongValue());
+		assertTrue(NumberParser.parseScaledLong("|0.1|".getBytes(StandardCharsets.US_ASCII), 1, 4, 1, result));
+		assertEquals(1L, result.getLongValue());
+	}
+
+	@Test
+	public void testParseBigNumbers() {
+		String[] values = { "0", "-0", "+42", "-9223372036854775809", "123456789012345678", "1234567890123456789",
+				"-000012345678901234567890123456789012345678901234567890" };
+
+		for (String value : values) {
+			assertEquals(value, new BigInteger(value), NumberParser.parseBigInteger(value));
+			assertEquals(value, new BigDecimal(value), NumberParser.parseBigDecimal(value));
+		}
+
+		Random random = new Random(42);
+		StringBuilder digits = new StringBuilder("-");
+
+		for (int i = 0; i < 5000; i++) {
+			digits.append((char) ('0' + random.nextInt(10)));
+		}
+		assertEquals(new BigInteger(digits.toString()), NumberParser.parseBigInteger(digits.toString()));
+		digits.insert(1234, '.').append("e-17");
+		assertEquals(new BigDecimal(digits.toString()), NumberParser.parseBigDecimal(digits.toString()));
+
+		assertEquals(new BigInteger("1000000"), NumberParser.parseBigInteger(" 1 000 000"));
+		assertEquals(new BigDecimal("1.50"), NumberParser.parseBigDecimal(" 1,50 "));
+		assertEquals(new BigDecimal("-1.5E-7"), NumberParser.parseBigDecimal("-0.015e-5"));
+		assertEquals(-3, NumberParser.parseBigDecimal("15e3").scale());
+
+		NumberParseResult result = new NumberParseResult();
+
+		assertEquals(null, NumberParser.parseBigInteger("12a", 0, 3, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(2, result.getErrorIndex());
+		assertEquals(null, NumberParser.parseBigDecimal("1.2.3", 0, 5, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(3, result.getErrorIndex());
+		assertEquals(null, NumberParser.parseBigDecimal("NaN", 0, 3, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(null, NumberParser.parseBigDecimal("1e-3000000000", 0, 13, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+		assertEquals(null, NumberParser.parseBigDecimal(" ", 0, 1, result));
+		assertEquals(Status.EMPTY, result.getStatus());
+		// the exact value has no floating point type
+		assertEquals(null, NumberParser.parseBigDecimal("1.5f", 0, 4, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(3, result.getErrorIndex());
+		assertEquals(null, NumberParser.parseBigDecimal(" 1e3d ", 0, 6, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(4, result.getErrorIndex());
+		assertEquals(null, NumberParser.parseBigDecimal("1e+", 0, 3, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(3, result.getErrorIndex());
+		assertEquals(null, NumberParser.parseBigInteger(null));
+
+		assertEquals(new BigDecimal("2.5"), NumberParser.parseBigDecimal("x2.5x", 1, 4, result));
+		assertTrue(result.isValid());
+		assertEquals(4, result.getIndex());
+	}
+
+	@Test
+	public void testParseDoubleApproximate() {
+		Random random = new Random(21);
+		NumberParseResult result = new NumberParseResult();
+
+		for (int i = 0; i < 20000; i++) {
+			StringBuilder value = new StringBuilder();
+			int digits = 1 + random.nextInt(30);
+
+			for (int j = 0; j < digits; j++) {
+				value.append((char) ('0' + random.nextInt(10)));
+			}
+			value.append('e').append(random.nextInt(700) - 360);
+
+			if (i % 2 == 0) {
+				// the midpoint between two doubles
+				double d = Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL);
+				value.setLength(0);
+				value.append(new BigDecimal(d).add(new BigDecimal(Math.nextUp(d))).divide(BigDecimal.valueOf(2)));
+			}
+
+			long expected = Double.doubleToLongBits(NumberParser.parseDouble(value.toString()));
+			long actual = Double.doubleToLongBits(NumberParser.parseDoubleApproximate(value.toString()));
+			assertTrue(value.toString(), Math.abs(expected - actual) <= 1);
+		}
+
+		assertEquals(0.1d, NumberParser.parseDoubleApproximate("0,1"), 0d);
+		assertEquals(Double.POSITIVE_INFINITY, NumberParser.parseDoubleApproximate("1e400"), 0d);
+		assertEquals(-0d, NumberParser.parseDoubleApproximate("-1e-400"), 0d);
+		assertTrue(Double.isNaN(NumberParser.parseDoubleApproximate("1e")));
+		assertTrue(NumberParser.parseDoubleApproximate("x4.9e-324x", 1, 9, result));
+		assertEquals(Double.MIN_VALUE, result.getDoubleValue(), 0d);
+		assertFalse(NumberParser.parseDoubleApproximate("1.2.3".getBytes(StandardCharsets.US_ASCII), 0, 5, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+	}
+
+	@Test
+	public void testParsePrefix() {
+		NumberParseResult result = new NumberParseResult();
+		NumberFormatProfile json = new NumberFormatProfile(".", "", SignPolicy.MINUS_ONLY, WhitespacePolicy.NONE);
+		String tokens = "[-12,3.5e2,7e,0x1p4,1.2.3,NaNx,-]";
+
+		assertTrue(NumberParser.parseIntPrefix(tokens, 1, tokens.length(), result));
+		assertEquals(-12, result.getIntValue());
+		assertEquals(4, result.getIndex());
+		assertTrue(NumberParser.parseDoublePrefix(tokens, 5, tokens.length(), json, result));
+		assertEquals(350d, result.getDoubleValue(), 0d);
+		assertEquals(10, result.getIndex());
+
+		// an exponent without digits is not part of the number
+		assertTrue(NumberParser.parseDoublePrefix(tokens, 11, tokens.length(), json, result));
+		assertEquals(7d, result.getDoubleValue(), 0d);
+		assertEquals(12, result.getIndex());
+		assertTrue(NumberParser.parseDoublePrefix(tokens, 14, tokens.length(), json, result));
+		assertEquals(16d, result.getDoubleValue(), 0d);
+		assertEquals(19, result.getIndex());
+		assertTrue(NumberParser.parseFloatPrefix(tokens, 20, tokens.length(), json, result));
+		assertEquals(1.2f, result.getFloatValue(), 0f);
+		assertEquals(23, result.getIndex());
+		assertTrue(NumberParser.parseDoublePrefix(tokens, 26, tokens.length(), json, result));
+		assertTrue(Double.isNaN(result.getDoubleValue()));
+		assertEquals(29, result.getIndex());
+
+		assertFalse(NumberParser.parseDoublePrefix(tokens, 31, tokens.length(), json, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertEquals(32, result.getErrorIndex());
+		assertFalse(NumberParser.parseLongPrefix(tokens, 0, tokens.length(), result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+		assertFalse(NumberParser.parseDoublePrefix(" 1", 0, 2, result));
+		assertFalse(NumberParser.parseIntPrefix("2147483648]", 0, 11, result));
+		assertEquals(Status.OVERFLOW, result.getStatus());
+
+		// without a profile ',' is a decimal mark
+		assertTrue(NumberParser.parseDoublePrefix("1,5]", 0, 4, result));
+		assertEquals(1.5d, result.getDoubleValue(), 0d);
+
+		byte[] bytes = "{\"a\":42.5}".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(NumberParser.parseDoublePrefix(bytes, 5, bytes.length, json, result));
+		assertEquals(42.5d, result.getDoubleValue(), 0d);
+		assertEquals(9, result.getIndex());
+		assertTrue(NumberParser.parseLongPrefix(bytes, 5, bytes.length, result));
+		assertEquals(42L, result.getLongValue());
+		assertEquals(7, result.getIndex());
+
+		// the byte overloads without a profile use the default grammar like the CharSequence ones
+		bytes = "x-1,5e2]".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(NumberParser.parseDoublePrefix(bytes, 1, bytes.length, result));
+		assertEquals(-150d, result.getDoubleValue(), 0d);
+		assertEquals(7, result.getIndex());
+		assertTrue(NumberParser.parseFloatPrefix(bytes, 1, bytes.length, result));
+		assertEquals(-150f, result.getFloatValue(), 0f);
+		assertEquals(7, result.getIndex());
+		assertFalse(NumberParser.parseFloatPrefix(bytes, 0, bytes.length, result));
+		assertEquals(0, result.getErrorIndex());
+	}
+
+	@Test
+	public void testGrammarProfiles() {
+		NumberParseResult result = new NumberParseResult();
+		String[] valid = { "0", "-0", "1.5", "-0.25e+3", "1E-7", "12345678901234567890123", "0.000e5" };
+		String[] invalid = { "+1", "01", "-01.5", ".5", "5.", "1.e5", "1e", "1e+", " 1", "1 ", "NaN", "-Infinity", "0x1p3",
+				"1.5d", "\u0661", "1,5", "-", "" };
+
+		for (String value : valid) {
+			assertTrue(value, NumberParser.parseDouble(value, NumberFormatProfile.JSON, result));
+			assertEquals(value, Double.parseDouble(value), result.getDoubleValue(), 0d);
+		}
+		for (String value : invalid) {
+			assertFalse(value, NumberParser.parseDouble(value, NumberFormatProfile.JSON, result));
+		}
+
+		assertFalse(NumberParser.parseDouble("-01.5", NumberFormatProfile.JSON, result));
+		assertEquals(2, result.getErrorIndex());
+		assertFalse(NumberParser.parseDouble("1.e5", NumberFormatProfile.JSON, result));
+		assertEquals(2, result.getErrorIndex());
+		assertFalse(NumberParser.parseLong("007", NumberFormatProfile.JSON, result));
+		assertTrue(NumberParser.parseLong("-700", NumberFormatProfile.JSON, result));
+		assertEquals(-700L, result.getLongValue());
+
+		// the longest JSON number of a prefix
+		assertTrue(NumberParser.parseDoublePrefix("012", 0, 3, NumberFormatProfile.JSON, result));
+		assertEquals(1, result.getIndex());
+		assertTrue(NumberParser.parseDoublePrefix("3.e1", 0, 4, NumberFormatProfile.JSON, result));
+		assertEquals(3d, result.getDoubleValue(), 0d);
+		assertEquals(1, result.getIndex());
+
+		// the JAVA grammar accepts exactly the strings of Double.parseDouble()
+		String[] java = { " +1.5f ", "5.", ".5", "1.e5", "NaN", "-Infinity", "0x1.8p1", "1e", ".", "1,5", "\u0661", "1 2",
+				"Infinityx", "0x1p", "1e400d" };
+
+		for (String value : java) {
+			Double expected;
+
+			try {
+				expected = Double.parseDouble(value);
+			} catch (NumberFormatException e) {
+				expected = null;
+			}
+			assertEquals(value, expected != null, NumberParser.parseDouble(value, NumberFormatProfile.JAVA, result));
+
+			if (expected != null) {
+				assertEquals(value, expected, result.getDoubleValue(), 0d);
+			}
+		}
+		assertTrue(NumberParser.isValidDouble("\u0661"));
+		assertFalse(NumberParser.parseInt("\u0661", NumberFormatProfile.JAVA, result));
+	}
+
+	@Test
+	public void testParseHalfAndBFloat16() {
+		NumberParseResult result = new NumberParseResult();
+
+		assertEquals(0x3E00, NumberParser.parseHalf("1.5"));
+		assertEquals((short) 0xC000, NumberParser.parseHalf("-2"));
+		assertEquals(0x7BFF, NumberParser.parseHalf("65504"));
+		assertEquals(0x7BFF, NumberParser.parseHalf("65519.99"));
+		assertEquals(0x7C00, NumberParser.parseHalf("65520"));
+		assertEquals(0x0001, NumberParser.parseHalf("5.960464477539063E-8"));
+		assertEquals((short) 0x8000, NumberParser.parseHalf("-1e-10"));
+		assertEquals(0x7E00, NumberParser.parseHalf("1.5x"));
+		assertEquals(0x7E00, NumberParser.parseHalf(null));
+
+		// 1 + 2^-11 is halfway between 1 and the next half, the double of the digits is the midpoint
+		assertEquals(0x3C00, NumberParser.parseHalf("1.00048828125"));
+		assertEquals(0x3C01, NumberParser.parseHalf("1.00048828125000000000000000001"));
+		assertEquals(0x3C02, NumberParser.parseHalf("1.00146484375"));
+		assertEquals(0x3C01, NumberParser.parseHalf("1.00146484374999999999999999999"));
+
+		assertEquals(0x3FC0, NumberParser.parseBFloat16("1.5"));
+		assertEquals(0x7F80, NumberParser.parseBFloat16("3.4e38"));
+		assertEquals((short) 0xFF80, NumberParser.parseBFloat16("-Infinity"));
+		assertEquals(0x7FC0, NumberParser.parseBFloat16("NaN"));
+		// 1 + 2^-8 + 2^-30 rounds up, its nearest float 1 + 2^-8 would round to 1
+		assertEquals(0x3F80, NumberParser.parseBFloat16("1.00390625"));
+		assertEquals(0x3F81, NumberParser.parseBFloat16("1.003906250931322574615478515625"));
+		assertEquals(0x3F80, NumberParser.parseBFloat16(Float.toString(Float.parseFloat("1.003906250931322574615478515625"))));
+
+		// hexadecimal digits past the double are kept by the rounding direction of the double
+		assertEquals(0x3C00, NumberParser.parseHalf("0x1.002p0"));
+		assertEquals(0x3C01, NumberParser.parseHalf("0x1.002000000000000001p0"));
+		assertEquals((short) 0xBC01, NumberParser.parseHalf("-0x1.002000000000000001p0"));
+		assertEquals(0x3C01, NumberParser.parseHalf("0x1.005fffffffffffff8p0"));
+		assertEquals(0x3F81, NumberParser.parseBFloat16("0x1.01000000000000001p0"));
+		assertEquals(0x3F82, NumberParser.parseBFloat16("0x1.03p0"));
+		assertEquals(0x3F81, NumberParser.parseBFloat16("0x1.02fffffffffffff8p0"));
+
+		assertTrue(NumberParser.parseHalf("1,5", 0, 3, NumberFormatProfile.GERMAN, result));
+		assertEquals(0x3E00, result.getShortValue());
+		assertFalse(NumberParser.parseBFloat16("1.5e", 0, 4, result));
+		assertEquals(Status.INVALID_CHAR, result.getStatus());
+
+		byte[] bytes = "[0.25]".getBytes(StandardCharsets.US_ASCII);
+		assertTrue(NumberParser.parseHalf(bytes, 1, 5, result));
+		assertEquals(0x3400, result.getShortValue());
+		assertTrue(NumberParser.parseBFloat16(bytes, 1, 5, result));
+		assertEquals(0x3E80, result.getShortValue());
+	}
+
+	@Test
+	public void testClassify() {
+		String[] values = { "0", " -2147483648", "2 147 483 647", "2147483648", "-2147483649", "0009223372036854775807",
+				"-9223372036854775808", "9223372036854775808", "-9223372036854775809", "+", "-", "", "1.5", "1,5", "1e3",
+				"1e", " 1.5f ", "NaN", "-Infinity", "0x1p3", "0x1p", "1.2.3", "abc", "\u0661\u0662", "1 2.5" };
+		NumberParseResult result = new NumberParseResult();
+
+		for (String value : values) {
+			NumberParser.NumberType expected = NumberParser.parseInt(value, result) ? NumberParser.NumberType.INT
+					: NumberParser.parseLong(value, result) ? NumberParser.NumberType.LONG
+							: NumberParser.parseDouble(value, result) ? NumberParser.NumberType.DOUBLE
+									: NumberParser.NumberType.NOT_A_NUMBER;
+
+			assertEquals(value, expected, NumberParser.classify(value));
+			assertEquals(value, NumberParser.parseInt(value, result), NumberParser.isValidInt(value));
+			assertEquals(value, NumberParser.parseLong(value, result), NumberParser.isValidLong(value));
+			assertEquals(value, NumberParser.parseDouble(value, result), NumberParser.isValidDouble(value));
+		}
+
+		assertEquals(NumberParser.NumberType.NOT_A_NUMBER, NumberParser.classify((CharSequence) null));
+		assertEquals(NumberParser.NumberType.LONG, NumberParser.classify("x4294967296x", 1, 11));
+		assertEquals(NumberParser.NumberType.DOUBLE,
+				NumberParser.classify("|2.5e-3|".getBytes(StandardCharsets.US_ASCII), 1, 7));
+		assertFalse(NumberParser.isValidDouble("1e5", 0, 2));
+	}
+
 	@Test
 	public void testFastRun() {
 		NumberParser.parsePositiveInt("500");
@@ -197,6 +1234,27 @@ public class NumberParserTest {
 		assertTrue(Double.isNaN(NumberParser.parseDouble("1,500.20")));
 	}
 
+	@Test
+	public void testParseDouble_UnicodeDigits() {
+
+		// arabic-indic digits and the arabic decimal separator
+		assertEquals(12.5d, NumberParser.parseDouble("\u0661\u0662\u066B\u0665"), 0d);
+		assertEquals(12.5f, NumberParser.parseFloat("\u0661\u0662\u066B\u0665"), 0f);
+
+		// full-width and mixed digits, also in the exponent
+		assertEquals(0.125d, NumberParser.parseDouble("\uFF11.\uFF12\uFF15e-\u0967"), 0d);
+		assertEquals(0.001d, NumberParser.parseDouble("0.\u06F00\u06F1"), 0d);
+		assertEquals(123456789.123456789d, NumberParser.parseDouble("\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669.123456789"), 0d);
+
+		assertTrue(Double.isNaN(NumberParser.parseDouble("\u0661\u066B\u066B\u0662")));
+		assertTrue(NumberParser.isValidDouble("\u0661e\u0662"));
+		assertEquals(NumberParser.NumberType.DOUBLE, NumberParser.classify("\u0661\u066B\u0665"));
+
+		NumberParseResult result = new NumberParseResult();
+		assertTrue(NumberParser.parseScaledLong("\u0661\u066B\u0665", 2, result));
+		assertEquals(150L, result.getLongValue());
+	}
+
 	@Test
 	public void testParseFloatNull() {
 		assertTrue(Float.isNaN(NumberParser.parseFloat("")));